@@ -70,6 +70,9 @@
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
+import org.spongepowered.common.network.PacketAllocationStats;
+import org.spongepowered.common.scheduler.PluginTaskMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
@@ -79,8 +82,12 @@
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @NonnullByDefault
 public class SpongeCommand {
@@ -105,6 +112,8 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
+        nonFlagChildren.register(getSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(getPacketsCommand(), "packets");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -121,7 +130,9 @@ INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins",
-                        INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
+                        INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Provides asynchronous task data for plugins\n",
+                        INDENT, title("packets"), LONG_INDENT, "Provides the allocations made while processing client packets"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
                         .valueFlag(world(Text.of("world")), "-world", "w")
@@ -534,6 +545,64 @@ private static CommandSpec getTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec getSchedulerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.scheduler")
+                .description(Text.of("Provides asynchronous task data for plugins."))
+                .executor((src, args) -> {
+                    List<PluginTaskMetrics> metrics = new ArrayList<>(SpongeScheduler.getInstance().getAsyncTaskMetrics());
+                    if (metrics.isEmpty()) {
+                        src.sendMessage(Text.of("No plugin has run asynchronous tasks yet."));
+                        return CommandResult.success();
+                    }
+                    // Show the plugins using the most async capacity first
+                    metrics.sort((a, b) -> Integer.compare(b.getRunningTasks() + b.getQueuedTasks(), a.getRunningTasks() + a.getQueuedTasks()));
+                    for (PluginTaskMetrics pluginMetrics : metrics) {
+                        src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, pluginMetrics.getPlugin().getId(), TextColors.RESET,
+                                "] Running: ", TextColors.LIGHT_PURPLE, pluginMetrics.getRunningTasks(), TextColors.RESET,
+                                ", Queued: ", TextColors.LIGHT_PURPLE, pluginMetrics.getQueuedTasks(), TextColors.RESET,
+                                ", Completed: ", TextColors.LIGHT_PURPLE, pluginMetrics.getCompletedTasks(), TextColors.RESET,
+                                ", Skipped: ", TextColors.LIGHT_PURPLE, pluginMetrics.getSkippedTasks(), TextColors.RESET,
+                                ", Mean latency: ", TextColors.RED, pluginMetrics.getAverageQueueLatency(TimeUnit.MILLISECONDS), "ms", TextColors.RESET,
+                                ", Max latency: ", TextColors.RED, pluginMetrics.getMaxQueueLatency(TimeUnit.MILLISECONDS), "ms", TextColors.RESET,
+                                ", Mean time: ", TextColors.RED, pluginMetrics.getAverageExecutionTime(TimeUnit.MILLISECONDS), "ms"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec getPacketsCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.packets")
+                .description(Text.of("Provides the bytes allocated while processing each type of client packet."))
+                .arguments(optional(literal(Text.of("reset"), "reset")))
+                .executor((src, args) -> {
+                    if (args.hasAny("reset")) {
+                        PacketAllocationStats.reset();
+                        src.sendMessage(Text.of("Packet allocation stats have been reset."));
+                        return CommandResult.success();
+                    }
+                    List<Map.Entry<Class<?>, PacketAllocationStats.Entry>> entries = new ArrayList<>(PacketAllocationStats.getEntries().entrySet());
+                    if (entries.isEmpty()) {
+                        src.sendMessage(Text.of("No packet allocations were recorded, they are only recorded when debug.packet-allocation-stats "
+                                + "is enabled."));
+                        return CommandResult.success();
+                    }
+                    // Show the packets allocating the most first
+                    entries.sort((a, b) -> Long.compare(b.getValue().getAllocatedBytes(), a.getValue().getAllocatedBytes()));
+                    for (Map.Entry<Class<?>, PacketAllocationStats.Entry> entry : entries) {
+                        final PacketAllocationStats.Entry stats = entry.getValue();
+                        src.sendMessage(Text.of("Packet [", TextColors.DARK_GREEN, entry.getKey().getSimpleName(), TextColors.RESET,
+                                "] Count: ", TextColors.LIGHT_PURPLE, stats.getPacketCount(), TextColors.RESET,
+                                ", Allocated: ", TextColors.RED, stats.getAllocatedBytes() / 1024, "KiB", TextColors.RESET,
+                                ", Per packet: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(stats.getAllocatedBytesPerPacket()), "B"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) MinecraftServer.getServer()).
                 getWorldTickTimes().get(((WorldServer) world).provider.getDimensionId());
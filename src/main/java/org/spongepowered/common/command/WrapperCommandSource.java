@@ -33,7 +33,6 @@
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.SubjectCollection;
-import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.util.Tristate;
@@ -42,6 +41,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.IMixinCommandSender;
 import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.permission.base.GlobalMemorySubjectData;
 import org.spongepowered.common.service.permission.base.SpongeSubject;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
@@ -51,22 +51,20 @@
 public class WrapperCommandSource extends SpongeSubject implements CommandSource {
 
     final ICommandSender sender;
-    private final MemorySubjectData data;
+    private final GlobalMemorySubjectData data;
 
     WrapperCommandSource(ICommandSender sender) {
         this.sender = sender;
-        this.data = new MemorySubjectData(SpongeImpl.getGame().getServiceManager().provide(PermissionService.class).get());
+        this.data = new GlobalMemorySubjectData(SpongeImpl.getGame().getServiceManager().provide(PermissionService.class).get());
 
         // ICommandSenders have a *very* basic understanding of permissions, so
         // get what we can.
-        this.data.setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.selector",
-                Tristate.fromBoolean(this.sender.canCommandSenderUseCommand(1, "@")));
-        this.data.setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.commandblock",
-                Tristate.fromBoolean(this.sender.canCommandSenderUseCommand(2, "")));
+        this.data.setInitialPermission("minecraft.selector", Tristate.fromBoolean(this.sender.canCommandSenderUseCommand(1, "@")));
+        this.data.setInitialPermission("minecraft.commandblock", Tristate.fromBoolean(this.sender.canCommandSenderUseCommand(2, "")));
         for (CommandMapping command : SpongeImpl.getGame().getCommandManager().getCommands()) {
             if (command.getCallable() instanceof MinecraftCommandWrapper) {
                 MinecraftCommandWrapper wrapper = (MinecraftCommandWrapper) command.getCallable();
-                this.data.setPermission(SubjectData.GLOBAL_CONTEXT, wrapper.getCommandPermission(),
+                this.data.setInitialPermission(wrapper.getCommandPermission(),
                         Tristate.fromBoolean(wrapper.command.canCommandSenderUseCommand(sender)));
             }
         }
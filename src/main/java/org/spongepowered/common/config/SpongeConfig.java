@@ -75,6 +75,7 @@ public enum Type {
     private ObjectMapper<T>.BoundInstance configMapper;
     private T configBase;
     private String modId;
+    private volatile int revision;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public SpongeConfig(Type type, Path path, String modId) {
@@ -118,6 +119,7 @@ public void reload() {
                             TypeSerializers.getDefaultSerializers().newChild().registerType(TypeToken.of(IpSet.class), new IpSet.IpSetSerializer()))
                     .setHeader(HEADER));
             this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+            this.revision++;
         } catch (Exception e) {
             SpongeImpl.getLogger().error("Failed to load configuration", e);
         }
@@ -128,6 +130,7 @@ public CompletableFuture<CommentedConfigurationNode> updateSetting(String key, O
             CommentedConfigurationNode upd = getSetting(key);
             upd.setValue(value);
             this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+            this.revision++;
             this.loader.save(this.root);
             return upd;
         }, ForkJoinPool.commonPool());
@@ -149,6 +152,16 @@ public CommentedConfigurationNode getSetting(String key) {
         }
     }
 
+    /**
+     * Gets the revision of this config, which changes every time the config
+     * is reloaded or one of its settings is updated.
+     *
+     * @return The revision
+     */
+    public int getRevision() {
+        return this.revision;
+    }
+
     public Type getType() {
         return this.type;
     }
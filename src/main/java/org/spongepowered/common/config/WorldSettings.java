@@ -0,0 +1,213 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.common.config.category.BlockTrackingCategory;
+import org.spongepowered.common.config.category.EntityCategory;
+import org.spongepowered.common.config.category.LoggingCategory;
+import org.spongepowered.common.config.type.ConfigBase;
+
+/**
+ * An immutable snapshot of the settings of the active {@link SpongeConfig} of
+ * a world that are read on hot paths. A snapshot is rebuilt whenever the
+ * active config of the world changes or the config itself is reloaded or
+ * updated, see {@link #isCurrent(SpongeConfig)}.
+ */
+public final class WorldSettings {
+
+    private final SpongeConfig<?> config;
+    private final int revision;
+
+    private final boolean blockTrackingEnabled;
+    private final ImmutableSet<String> blockTrackingBlacklist;
+
+    private final int maxBoundingBoxSize;
+    private final int maxCollisionSize;
+    private final int maxSpeed;
+
+    private final boolean blockBreakLogging;
+    private final boolean blockModifyLogging;
+    private final boolean blockPlaceLogging;
+    private final boolean blockPopulateLogging;
+    private final boolean blockTrackLogging;
+    private final boolean chunkLoadLogging;
+    private final boolean chunkUnloadLogging;
+    private final boolean chunkGCQueueUnloadLogging;
+    private final boolean entitySpawnLogging;
+    private final boolean entityDespawnLogging;
+    private final boolean entityDeathLogging;
+    private final boolean exploitSignCommandUpdatesLogging;
+    private final boolean exploitItemStackNameOverflowLogging;
+    private final boolean exploitRespawnInvisibilityLogging;
+    private final boolean exploitOversizedPacketLogging;
+    private final boolean entityCollisionChecksLogging;
+    private final boolean entitySpeedRemovalLogging;
+    private final boolean logWithStackTraces;
+
+    public WorldSettings(SpongeConfig<?> config) {
+        this.config = config;
+        // Read the revision first, a concurrent update then only causes another rebuild
+        this.revision = config.getRevision();
+        final ConfigBase base = config.getConfig();
+
+        final BlockTrackingCategory blockTracking = base.getBlockTracking();
+        this.blockTrackingEnabled = blockTracking.isEnabled();
+        this.blockTrackingBlacklist = ImmutableSet.copyOf(blockTracking.getBlockBlacklist());
+
+        final EntityCategory entity = base.getEntity();
+        this.maxBoundingBoxSize = entity.getMaxBoundingBoxSize();
+        this.maxCollisionSize = entity.getMaxCollisionSize();
+        this.maxSpeed = entity.getMaxSpeed();
+
+        final LoggingCategory logging = base.getLogging();
+        this.blockBreakLogging = logging.blockBreakLogging();
+        this.blockModifyLogging = logging.blockModifyLogging();
+        this.blockPlaceLogging = logging.blockPlaceLogging();
+        this.blockPopulateLogging = logging.blockPopulateLogging();
+        this.blockTrackLogging = logging.blockTrackLogging();
+        this.chunkLoadLogging = logging.chunkLoadLogging();
+        this.chunkUnloadLogging = logging.chunkUnloadLogging();
+        this.chunkGCQueueUnloadLogging = logging.chunkGCQueueUnloadLogging();
+        this.entitySpawnLogging = logging.entitySpawnLogging();
+        this.entityDespawnLogging = logging.entityDespawnLogging();
+        this.entityDeathLogging = logging.entityDeathLogging();
+        this.exploitSignCommandUpdatesLogging = logging.logExploitSignCommandUpdates;
+        this.exploitItemStackNameOverflowLogging = logging.logExploitItemStackNameOverflow;
+        this.exploitRespawnInvisibilityLogging = logging.logExploitRespawnInvisibility;
+        this.exploitOversizedPacketLogging = logging.logExploitOversizedPacket;
+        this.entityCollisionChecksLogging = logging.logEntityCollisionChecks();
+        this.entitySpeedRemovalLogging = logging.logEntitySpeedRemoval();
+        this.logWithStackTraces = logging.logWithStackTraces();
+    }
+
+    /**
+     * Gets whether this snapshot still reflects the provided config, which is
+     * the case if it was built from the same config and the config has not
+     * been reloaded or updated since.
+     *
+     * @param config The currently active config
+     * @return True if this snapshot is up to date
+     */
+    public boolean isCurrent(SpongeConfig<?> config) {
+        return this.config == config && this.revision == config.getRevision();
+    }
+
+    public SpongeConfig<?> getConfig() {
+        return this.config;
+    }
+
+    public boolean isBlockTrackingEnabled() {
+        return this.blockTrackingEnabled;
+    }
+
+    public boolean isBlockTrackingBlacklisted(String blockId) {
+        return this.blockTrackingBlacklist.contains(blockId);
+    }
+
+    public int getMaxBoundingBoxSize() {
+        return this.maxBoundingBoxSize;
+    }
+
+    public int getMaxCollisionSize() {
+        return this.maxCollisionSize;
+    }
+
+    public int getMaxSpeed() {
+        return this.maxSpeed;
+    }
+
+    public boolean blockBreakLogging() {
+        return this.blockBreakLogging;
+    }
+
+    public boolean blockModifyLogging() {
+        return this.blockModifyLogging;
+    }
+
+    public boolean blockPlaceLogging() {
+        return this.blockPlaceLogging;
+    }
+
+    public boolean blockPopulateLogging() {
+        return this.blockPopulateLogging;
+    }
+
+    public boolean blockTrackLogging() {
+        return this.blockTrackLogging;
+    }
+
+    public boolean chunkLoadLogging() {
+        return this.chunkLoadLogging;
+    }
+
+    public boolean chunkUnloadLogging() {
+        return this.chunkUnloadLogging;
+    }
+
+    public boolean chunkGCQueueUnloadLogging() {
+        return this.chunkGCQueueUnloadLogging;
+    }
+
+    public boolean entitySpawnLogging() {
+        return this.entitySpawnLogging;
+    }
+
+    public boolean entityDespawnLogging() {
+        return this.entityDespawnLogging;
+    }
+
+    public boolean entityDeathLogging() {
+        return this.entityDeathLogging;
+    }
+
+    public boolean exploitSignCommandUpdatesLogging() {
+        return this.exploitSignCommandUpdatesLogging;
+    }
+
+    public boolean exploitItemStackNameOverflowLogging() {
+        return this.exploitItemStackNameOverflowLogging;
+    }
+
+    public boolean exploitRespawnInvisibilityLogging() {
+        return this.exploitRespawnInvisibilityLogging;
+    }
+
+    public boolean exploitOversizedPacketLogging() {
+        return this.exploitOversizedPacketLogging;
+    }
+
+    public boolean entityCollisionChecksLogging() {
+        return this.entityCollisionChecksLogging;
+    }
+
+    public boolean entitySpeedRemovalLogging() {
+        return this.entitySpeedRemovalLogging;
+    }
+
+    public boolean logWithStackTraces() {
+        return this.logWithStackTraces;
+    }
+}
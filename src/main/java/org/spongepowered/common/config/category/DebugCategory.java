@@ -42,10 +42,17 @@ public class DebugCategory extends ConfigCategory {
     @Setting(value = "concurrent-entity-checks", comment = "Detect and prevent certain attempts to use entities concurrently.\nWARNING: May drastically decrase server performance. Only enable this to debug a pre-existing issue")
     private boolean concurrentChecks = false;
 
+    @Setting(value = "packet-allocation-stats", comment = "Record the bytes allocated while processing each type of client packet.\nOnly supported on JVMs that can measure thread allocations")
+    private boolean packetAllocationStats = false;
+
     public boolean doConcurrentChecks() {
         return this.concurrentChecks;
     }
 
+    public boolean recordPacketAllocationStats() {
+        return this.packetAllocationStats;
+    }
+
     public boolean isEnableThreadContentionMonitoring() {
         return this.enableThreadContentionMonitoring;
     }
@@ -34,6 +34,14 @@ public class ExploitCategory extends ConfigCategory {
     private boolean preventItemNameOverflow = true;
     @Setting("prevent-sign-command-exploit")
     private boolean preventSignExploit = true;
+    @Setting(value = "max-creative-itemstack-nbt-size", comment = "The maximum size in bytes of the NBT of an itemstack sent by a creative player, 0 to disable the check")
+    private int maxCreativeItemStackNbtSize = 262144;
+    @Setting(value = "prevent-book-exploit", comment = "Reject book edits with more pages or longer pages than a vanilla client can send")
+    private boolean preventBookExploit = true;
+    @Setting(value = "max-book-pages", comment = "The maximum amount of pages of an edited book")
+    private int maxBookPages = 50;
+    @Setting(value = "max-book-page-length", comment = "The maximum length of a page of an edited book")
+    private int maxBookPageLength = 256;
 
     public boolean isPreventItemNameOverflow() {
         return this.preventItemNameOverflow;
@@ -50,4 +58,20 @@ public boolean isPreventSignExploit() {
     public void setPreventSignExploit(boolean preventSignExploit) {
         this.preventSignExploit = preventSignExploit;
     }
+
+    public int getMaxCreativeItemStackNbtSize() {
+        return this.maxCreativeItemStackNbtSize;
+    }
+
+    public boolean isPreventBookExploit() {
+        return this.preventBookExploit;
+    }
+
+    public int getMaxBookPages() {
+        return this.maxBookPages;
+    }
+
+    public int getMaxBookPageLength() {
+        return this.maxBookPageLength;
+    }
 }
\ No newline at end of file
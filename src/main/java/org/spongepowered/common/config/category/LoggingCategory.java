@@ -58,6 +58,8 @@ public class LoggingCategory extends ConfigCategory {
     public boolean logExploitItemStackNameOverflow = false;
     @Setting(value = "exploit-respawn-invisibility", comment = "Log when player attempts to respawn invisible to surrounding players.")
     public boolean logExploitRespawnInvisibility = false;
+    @Setting(value = "exploit-oversized-packet", comment = "Log when server receives exploited packet with an oversized itemstack or book.")
+    public boolean logExploitOversizedPacket = false;
     @Setting(value = "log-stacktraces", comment = "Add stack traces to dev logging")
     private boolean logWithStackTraces = false;
     @Setting(value = "entity-collision-checks", comment = "Whether to log entity collision/count checks")
@@ -39,9 +39,36 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "chunk-map-caching", comment = "Caches chunks internally for faster returns when querying at various positions")
     private boolean useCachedChunkMap = true;
 
+    @Setting(value = "chunk-map-cache-size", comment = "The number of recently retrieved chunks kept by the chunk map cache, rounded up to a power of two")
+    private int chunkMapCacheSize = 16;
+
     @Setting(value = "cache-tameable-owners", comment = "Caches tameable entities owners to avoid constant lookups against data watchers. If mods cause issue, disable.")
     private boolean cacheTameableOwners = true;
 
+    @Setting(value = "async-player-data", comment = "Saves Sponge player data on a separate thread, only writing players whose data changed, "
+                                                  + "\nand loads the data of a player the first time it is needed instead of on startup.")
+    private boolean asyncPlayerData = false;
+
+    @Setting(value = "spatial-entity-tracking", comment = "Only re-evaluates which players track an entity for the players in range of it, instead of for every player "
+                                                        + "\nin the world whenever a player or an entity moves. Requires a restart.")
+    private boolean spatialEntityTracking = false;
+
+    @Setting(value = "batch-human-packets", comment = "Sends the spawn and queued packets of human entities to each player with a single flush per tick, "
+                                                    + "\ninstead of flushing the connection for every packet.")
+    private boolean batchHumanPackets = false;
+
+    @Setting(value = "parallel-chunk-generation", comment = "Generates the terrain of the chunks around a newly generated chunk ahead of time on worker threads. "
+                                                          + "\nOnly used in worlds whose generators all come from plugins, which must then be thread safe.")
+    private boolean parallelChunkGeneration = false;
+
+    @Setting(value = "parallel-volume-workers", comment = "Iterates and reduces large immutable or thread safe block and biome volumes on several threads. "
+                                                        + "\nThe visitors and reducers given to the volume workers by all plugins must then be thread safe.")
+    private boolean parallelVolumeWorkers = false;
+
+    @Setting(value = "chunk-generation-threads", comment = "The number of worker threads used by parallel chunk generation, "
+                                                         + "\n0 uses one less than the number of available processors. Requires a restart.")
+    private int chunkGenerationThreads = 0;
+
     public boolean useBlockStateLookupPatch() {
         return this.blockStateLookup;
     }
@@ -54,8 +81,36 @@ public boolean isUseCachedChunkMap() {
         return this.useCachedChunkMap;
     }
 
+    public int getChunkMapCacheSize() {
+        return this.chunkMapCacheSize;
+    }
+
     public boolean useCacheTameableOwners() {
         return this.cacheTameableOwners;
     }
 
+    public boolean useAsyncPlayerData() {
+        return this.asyncPlayerData;
+    }
+
+    public boolean useSpatialEntityTracking() {
+        return this.spatialEntityTracking;
+    }
+
+    public boolean useBatchHumanPackets() {
+        return this.batchHumanPackets;
+    }
+
+    public boolean useParallelChunkGeneration() {
+        return this.parallelChunkGeneration;
+    }
+
+    public boolean useParallelVolumeWorkers() {
+        return this.parallelVolumeWorkers;
+    }
+
+    public int getChunkGenerationThreads() {
+        return this.chunkGenerationThreads;
+    }
+
 }
\ No newline at end of file
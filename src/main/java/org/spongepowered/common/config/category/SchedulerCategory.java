@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-executor", comment = "The executor used to run asynchronous plugin tasks, one of:\n"
+            + "'cached' - creates a new thread whenever no idle thread is available\n"
+            + "'work-stealing' - a pool of at most 'async-threads' threads\n"
+            + "'virtual' - a virtual thread per task, only on runtimes supporting them, falls back to 'cached' otherwise")
+    private String asyncExecutor = "cached";
+
+    @Setting(value = "async-threads", comment = "The number of threads of the 'work-stealing' executor, 0 uses the number of available processors")
+    private int asyncThreads = 0;
+
+    @Setting(value = "max-async-tasks-per-plugin", comment = "The maximum number of asynchronous tasks of a single plugin that may run at the same time, "
+            + "further tasks wait until one finished. 0 is unlimited")
+    private int maxAsyncTasksPerPlugin = 0;
+
+    public String getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    public int getAsyncThreads() {
+        return this.asyncThreads;
+    }
+
+    public int getMaxAsyncTasksPerPlugin() {
+        return this.maxAsyncTasksPerPlugin;
+    }
+}
@@ -103,6 +103,11 @@ public class WorldCategory extends ConfigCategory {
 
     @Setting(value = "weather-ice-and-snow", comment = "Enable to allow the natural formation of ice and snow in supported biomes.")
     private boolean weatherIceAndSnow = true;
+
+    @Setting(value = "parallel-random-tick-selection", comment = "If enabled, the blocks to random tick in each active chunk are picked in parallel "
+                                                               + "and then ticked on the main thread, \nafter thunder and ice and snow of all chunks. "
+                                                               + "\nNote: As this is an experimental setting for performance gain, if you encounter any issues then we recommend disabling it.")
+    private boolean parallelRandomTickSelection = false;
     
     public WorldCategory() {
         this.portalAgents.put("minecraft:default_nether", "DIM-1");
@@ -216,4 +221,8 @@ public boolean getWeatherThunder() {
     public boolean getWeatherIceAndSnow() {
         return this.weatherIceAndSnow;
     }
+
+    public boolean getParallelRandomTickSelection() {
+        return this.parallelRandomTickSelection;
+    }
 }
\ No newline at end of file
@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.util.IpSet;
 
@@ -72,6 +73,9 @@ public class GlobalConfig extends ConfigBase {
     @Setting
     protected GlobalWorldCategory world = new GlobalWorldCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the execution of scheduled plugin tasks")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -111,6 +115,10 @@ public OptimizationCategory getOptimizations() {
         return this.optimizations;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
     public Predicate<InetAddress> getIpSet(String name) {
         return this.ipSets.containsKey(name) ? Predicates.and(this.ipSets.get(name)) : null;
     }
@@ -28,17 +28,24 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
+import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.value.immutable.ImmutableSpongeValue;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 public final class ImmutableDataCachingUtil {
 
@@ -47,17 +54,31 @@ private ImmutableDataCachingUtil() {}
     public static final int CACHE_LIMIT_FOR_INDIVIDUAL_TYPE = 100;
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
+    /**
+     * The number of interned {@link ImmutableSpongeValue}s kept per
+     * {@link Key}, covering booleans, enum constants and non negative
+     * integers below this limit.
+     */
+    public static final int INTERNED_VALUE_LIMIT = 256;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    private static final ConcurrentMap<Key<?>, AtomicReferenceArray<ImmutableValue<?>>> internedValues = new ConcurrentHashMap<>();
+    // Reused by the server thread so cache hits don't allocate a key
+    private static final CacheKey serverLookupKey = new CacheKey();
+    private static final Object[] lookupValueArgs = new Object[4];
+    private static final LongAdder internedHits = new LongAdder();
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,56 +96,203 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
-        // We can't really use the generic typing here because it's complicated...
+        @Nullable final CacheKey lookupKey = getLookupKey();
+        final ImmutableDataManipulator<?, ?> cached;
+        if (lookupKey != null) {
+            cached = ImmutableDataCachingUtil.manipulatorCache.getIfPresent(lookupKey.set(immutableClass, args));
+            lookupKey.clear();
+        } else {
+            cached = ImmutableDataCachingUtil.manipulatorCache.getIfPresent(new CacheKey(immutableClass, args));
+        }
+        if (cached != null) {
+            return (T) cached;
+        }
+        final ImmutableDataManipulator<?, ?> manipulator;
         try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
-                    try {
-                        return createUnsafeInstance(immutableClass, args);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
-                                                     + Arrays.toString(args), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
-                                                            + Arrays.toString(args));
-            });
-        } catch (Throwable e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName(), e);
+            manipulator = createUnsafeInstance(immutableClass, args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
+                                         + Arrays.toString(args), e);
+            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
+                                                    + Arrays.toString(args), e);
         }
+        final ImmutableDataManipulator<?, ?> previous =
+                ImmutableDataCachingUtil.manipulatorCache.asMap().putIfAbsent(new CacheKey(immutableClass, args), manipulator);
+        return (T) (previous == null ? manipulator : previous);
     }
 
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
-        try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        } else {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                        }
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
-        } catch (ExecutionException e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+        final boolean noExtraArgs = extraArgs == null || extraArgs.length == 0;
+        final int internedIndex = valueClass == ImmutableSpongeValue.class && noExtraArgs ? getInternedIndex(arg) : -1;
+        if (internedIndex >= 0) {
+            final ImmutableValue<?> interned = getInterned(usedKey, internedIndex, defaultArg, arg);
+            if (interned != null) {
+                internedHits.increment();
+                return (T) interned;
+            }
+        }
+        @Nullable final CacheKey lookupKey = noExtraArgs ? getLookupKey() : null;
+        ImmutableValue<?> value;
+        if (lookupKey != null) {
+            final Object[] lookupArgs = lookupValueArgs;
+            lookupArgs[0] = usedKey;
+            lookupArgs[1] = defaultArg;
+            lookupArgs[2] = arg.getClass();
+            lookupArgs[3] = arg;
+            value = ImmutableDataCachingUtil.valueCache.getIfPresent(lookupKey.set(valueClass, lookupArgs));
+            lookupKey.clear();
+            Arrays.fill(lookupArgs, null);
+        } else {
+            value = ImmutableDataCachingUtil.valueCache.getIfPresent(noExtraArgs ? new CacheKey(valueClass, usedKey, defaultArg, arg.getClass(), arg)
+                    : new CacheKey(valueClass, usedKey, defaultArg, arg.getClass(), arg, extraArgs));
+        }
+        if (value == null) {
+            try {
+                if (noExtraArgs) {
+                    value = createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
+                } else {
+                    value = createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+                }
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
+                throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+            }
+            final CacheKey key = noExtraArgs ? new CacheKey(valueClass, usedKey, defaultArg, arg.getClass(), arg)
+                    : new CacheKey(valueClass, usedKey, defaultArg, arg.getClass(), arg, extraArgs);
+            final ImmutableValue<?> previous = ImmutableDataCachingUtil.valueCache.asMap().putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        if (internedIndex >= 0) {
+            intern(usedKey, internedIndex, value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Gets the key reused to look up cached instances, only the server
+     * thread reuses a key, other threads have to create their own.
+     *
+     * @return The reusable lookup key, or null if not on the server thread
+     */
+    @Nullable
+    private static CacheKey getLookupKey() {
+        @Nullable final MinecraftServer server = MinecraftServer.getServer();
+        return server != null && server.isCallingFromMinecraftThread() ? serverLookupKey : null;
+    }
+
+    /**
+     * Gets the statistics of the cached {@link ImmutableDataManipulator}s.
+     *
+     * @return The manipulator cache statistics
+     */
+    public static CacheStats getManipulatorCacheStats() {
+        return manipulatorCache.stats();
+    }
+
+    /**
+     * Gets the statistics of the cached {@link ImmutableValue}s. Values served
+     * from the interned values are not included, see
+     * {@link #getInternedValueHits()}.
+     *
+     * @return The value cache statistics
+     */
+    public static CacheStats getValueCacheStats() {
+        return valueCache.stats();
+    }
+
+    /**
+     * Gets how many times an interned boolean, enum or small integer
+     * {@link ImmutableValue} was returned without a cache lookup.
+     *
+     * @return The interned value hit count
+     */
+    public static long getInternedValueHits() {
+        return internedHits.sum();
+    }
+
+    private static int getInternedIndex(Object arg) {
+        if (arg instanceof Boolean) {
+            return (Boolean) arg ? 1 : 0;
+        } else if (arg instanceof Enum) {
+            final int ordinal = ((Enum<?>) arg).ordinal();
+            return ordinal < INTERNED_VALUE_LIMIT ? ordinal : -1;
+        } else if (arg instanceof Integer) {
+            final int value = (Integer) arg;
+            return value >= 0 && value < INTERNED_VALUE_LIMIT ? value : -1;
         }
+        return -1;
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    private static ImmutableValue<?> getInterned(Key<?> key, int index, Object defaultArg, Object arg) {
+        final AtomicReferenceArray<ImmutableValue<?>> values = internedValues.get(key);
+        if (values == null) {
+            return null;
+        }
+        final ImmutableValue<?> value = values.get(index);
+        // A key may be used with different defaults, those go through the cache
+        if (value != null && value.get().equals(arg) && Objects.equals(value.getDefault(), defaultArg)) {
+            return value;
+        }
+        return null;
+    }
+
+    private static void intern(Key<?> key, int index, ImmutableValue<?> value) {
+        AtomicReferenceArray<ImmutableValue<?>> values = internedValues.get(key);
+        if (values == null) {
+            values = internedValues.computeIfAbsent(key, k -> new AtomicReferenceArray<>(INTERNED_VALUE_LIMIT));
+        }
+        values.compareAndSet(index, null, value);
+    }
+
+    /**
+     * A structural key of a cached instance, made of the instance class and
+     * the constructor arguments.
+     */
+    private static final class CacheKey {
+
+        // Only changed on the reusable lookup key, keys in the caches are never changed
+        @Nullable private Class<?> type;
+        @Nullable private Object[] args;
+        private int hashCode;
+
+        CacheKey(Class<?> type, Object... args) {
+            set(type, args);
+        }
+
+        CacheKey() {
+        }
+
+        CacheKey set(Class<?> type, Object[] args) {
+            this.type = type;
+            this.args = args;
+            this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(args);
+            return this;
+        }
+
+        void clear() {
+            this.type = null;
+            this.args = null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
             }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.type == other.type && this.hashCode == other.hashCode && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
         }
-        return builder.toString();
     }
 }
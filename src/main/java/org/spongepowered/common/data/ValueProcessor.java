@@ -139,6 +139,20 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if {@link ValueContainer}s of the provided type could ever be
+     * supported by this {@link ValueProcessor}. This is used to narrow down
+     * the processors that have to be checked with
+     * {@link #supports(ValueContainer)} for a given container type, so
+     * returning {@code true} when unsure is always safe.
+     *
+     * @param containerType The value container type to check
+     * @return False if no container of the type can be supported
+     */
+    default boolean supportsType(Class<?> containerType) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
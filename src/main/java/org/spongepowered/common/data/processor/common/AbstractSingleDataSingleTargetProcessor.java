@@ -154,6 +154,11 @@ public final boolean supports(ValueContainer<?> container) {
         return this.holderClass.isInstance(container) && supports((Holder) container);
     }
 
+    @Override
+    public final boolean supportsType(Class<?> containerType) {
+        return this.holderClass.isAssignableFrom(containerType);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final Optional<T> getValueFromContainer(ValueContainer<?> container) {
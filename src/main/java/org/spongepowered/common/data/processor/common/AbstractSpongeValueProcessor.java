@@ -72,6 +72,11 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public boolean supportsType(Class<?> containerType) {
+        return this.containerClass == null || this.containerClass.isAssignableFrom(containerType);
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
@@ -33,12 +33,21 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
  * {@link ValueProcessor} registrations.
  *
+ * <p>The processors that could support a given container type are resolved
+ * once per concrete container class through
+ * {@link ValueProcessor#supportsType(Class)}, so only those have to be
+ * checked with {@link ValueProcessor#supports(ValueContainer)}. Delegates are
+ * rebuilt by {@link org.spongepowered.common.data.SpongeDataManager#finalizeRegistration()},
+ * which is the only point at which the cached processors can change.</p>
+ *
  * @param <E>
  * @param <V>
  */
@@ -46,12 +55,29 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final Map<Class<?>, ImmutableList<ValueProcessor<E, V>>> processorsByType = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    private ImmutableList<ValueProcessor<E, V>> getProcessors(ValueContainer<?> container) {
+        final Class<?> containerType = container.getClass();
+        ImmutableList<ValueProcessor<E, V>> processors = this.processorsByType.get(containerType);
+        if (processors == null) {
+            final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+            for (ValueProcessor<E, V> processor : this.processors) {
+                if (processor.supportsType(containerType)) {
+                    builder.add(processor);
+                }
+            }
+            processors = builder.build();
+            this.processorsByType.put(containerType, processors);
+        }
+        return processors;
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -63,8 +89,18 @@ public int getPriority() {
     }
 
     @Override
-    public Optional<E> getValueFromContainer(ValueContainer<?> container) {
+    public boolean supportsType(Class<?> containerType) {
         for (ValueProcessor<E, V> processor : this.processors) {
+            if (processor.supportsType(containerType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<E> getValueFromContainer(ValueContainer<?> container) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -77,7 +113,7 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -90,7 +126,7 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -101,7 +137,8 @@ public boolean supports(ValueContainer<?> container) {
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        final ImmutableList<ValueProcessor<E, V>> processors = getProcessors(container);
+        for (ValueProcessor<E, V> processor : processors) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -109,7 +146,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : processors) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -124,7 +161,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
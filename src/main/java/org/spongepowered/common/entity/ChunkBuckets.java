@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A short lived spatial index of objects by the chunk they are in, used to
+ * find the objects close to a position without scanning all of them.
+ *
+ * @param <T> The type of the indexed objects
+ */
+public final class ChunkBuckets<T> {
+
+    private final TLongObjectMap<List<T>> buckets = new TLongObjectHashMap<>();
+
+    public void add(double x, double z, T object) {
+        final long key = ChunkCoordIntPair.chunkXZ2Int(MathHelper.floor_double(x) >> 4, MathHelper.floor_double(z) >> 4);
+        List<T> bucket = this.buckets.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            this.buckets.put(key, bucket);
+        }
+        bucket.add(object);
+    }
+
+    /**
+     * Visits the objects of all chunks that intersect the square of the
+     * provided range around the position, this may include objects that
+     * are slightly out of range.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @param range The range in blocks
+     * @param consumer The consumer to visit the objects with
+     */
+    public void forEachInRange(double x, double z, int range, Consumer<T> consumer) {
+        final int minChunkX = MathHelper.floor_double(x - range) >> 4;
+        final int maxChunkX = MathHelper.floor_double(x + range) >> 4;
+        final int minChunkZ = MathHelper.floor_double(z - range) >> 4;
+        final int maxChunkZ = MathHelper.floor_double(z + range) >> 4;
+        if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > this.buckets.size()) {
+            // Fewer occupied chunks than chunks in range, check the occupied chunks instead
+            this.buckets.forEachEntry((key, bucket) -> {
+                final int chunkX = (int) key;
+                final int chunkZ = (int) (key >> 32);
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    bucket.forEach(consumer);
+                }
+                return true;
+            });
+            return;
+        }
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final List<T> bucket = this.buckets.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+                if (bucket != null) {
+                    bucket.forEach(consumer);
+                }
+            }
+        }
+    }
+
+}
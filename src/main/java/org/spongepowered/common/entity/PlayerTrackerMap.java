@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.iterator.TIntLongIterator;
+import gnu.trove.iterator.TShortLongIterator;
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TShortLongMap;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TShortLongHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+/**
+ * Stores the owner and notifier of the tracked block positions of a chunk.
+ *
+ * <p>Positions are keyed by their serialized short (y of 255 or below) or int
+ * form, the owner and notifier indices are packed into a single long per
+ * position so no objects are allocated per tracked block.</p>
+ */
+public final class PlayerTrackerMap {
+
+    /**
+     * The packed value of a position that isn't tracked.
+     */
+    public static final long UNTRACKED = pack(-1, -1);
+
+    private final TShortLongMap shortPositions = new TShortLongHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, (short) 0, UNTRACKED);
+    private final TIntLongMap intPositions = new TIntLongHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, 0, UNTRACKED);
+
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int getOwnerIndex(long tracker) {
+        return (int) (tracker >> 32);
+    }
+
+    public static int getNotifierIndex(long tracker) {
+        return (int) tracker;
+    }
+
+    public static long withOwnerIndex(long tracker, int ownerIndex) {
+        return pack(ownerIndex, getNotifierIndex(tracker));
+    }
+
+    public static long withNotifierIndex(long tracker, int notifierIndex) {
+        return pack(getOwnerIndex(tracker), notifierIndex);
+    }
+
+    public int size() {
+        return this.shortPositions.size() + this.intPositions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.shortPositions.isEmpty() && this.intPositions.isEmpty();
+    }
+
+    /**
+     * Gets the packed tracker of a position serialized to a short.
+     *
+     * @param pos The serialized position
+     * @return The packed tracker, or {@link #UNTRACKED}
+     */
+    public long getShortTracker(short pos) {
+        return this.shortPositions.get(pos);
+    }
+
+    /**
+     * Sets the packed tracker of a position serialized to a short, setting
+     * it to {@link #UNTRACKED} removes the position.
+     *
+     * @param pos The serialized position
+     * @param tracker The packed tracker
+     */
+    public void setShortTracker(short pos, long tracker) {
+        if (tracker == UNTRACKED) {
+            this.shortPositions.remove(pos);
+        } else {
+            this.shortPositions.put(pos, tracker);
+        }
+    }
+
+    public void removeShortTracker(short pos) {
+        this.shortPositions.remove(pos);
+    }
+
+    /**
+     * Gets the packed tracker of a position serialized to an int.
+     *
+     * @param pos The serialized position
+     * @return The packed tracker, or {@link #UNTRACKED}
+     */
+    public long getIntTracker(int pos) {
+        return this.intPositions.get(pos);
+    }
+
+    /**
+     * Sets the packed tracker of a position serialized to an int, setting
+     * it to {@link #UNTRACKED} removes the position.
+     *
+     * @param pos The serialized position
+     * @param tracker The packed tracker
+     */
+    public void setIntTracker(int pos, long tracker) {
+        if (tracker == UNTRACKED) {
+            this.intPositions.remove(pos);
+        } else {
+            this.intPositions.put(pos, tracker);
+        }
+    }
+
+    public void removeIntTracker(int pos) {
+        this.intPositions.remove(pos);
+    }
+
+    public TShortLongMap getShortTrackers() {
+        return this.shortPositions;
+    }
+
+    public TIntLongMap getIntTrackers() {
+        return this.intPositions;
+    }
+
+    /**
+     * Writes the tracked positions as parallel int arrays of the positions,
+     * owners and notifiers. The owners and notifiers of the short positions
+     * come first, followed by those of the int positions.
+     *
+     * @return The compound holding the arrays
+     */
+    public NBTTagCompound toCompound() {
+        final int size = size();
+        final int[] shortPositions = new int[this.shortPositions.size()];
+        final int[] intPositions = new int[this.intPositions.size()];
+        final int[] owners = new int[size];
+        final int[] notifiers = new int[size];
+        int index = 0;
+        for (TShortLongIterator it = this.shortPositions.iterator(); it.hasNext(); index++) {
+            it.advance();
+            shortPositions[index] = it.key();
+            owners[index] = getOwnerIndex(it.value());
+            notifiers[index] = getNotifierIndex(it.value());
+        }
+        for (TIntLongIterator it = this.intPositions.iterator(); it.hasNext(); index++) {
+            it.advance();
+            intPositions[index - shortPositions.length] = it.key();
+            owners[index] = getOwnerIndex(it.value());
+            notifiers[index] = getNotifierIndex(it.value());
+        }
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setIntArray(NbtDataUtil.TRACKED_SHORT_POSITIONS, shortPositions);
+        compound.setIntArray(NbtDataUtil.TRACKED_INT_POSITIONS, intPositions);
+        compound.setIntArray(NbtDataUtil.TRACKED_OWNERS, owners);
+        compound.setIntArray(NbtDataUtil.TRACKED_NOTIFIERS, notifiers);
+        return compound;
+    }
+
+    /**
+     * Reads tracked positions written by {@link #toCompound()}.
+     *
+     * @param compound The compound holding the arrays
+     * @return The tracked positions
+     */
+    public static PlayerTrackerMap fromCompound(NBTTagCompound compound) {
+        final int[] shortPositions = compound.getIntArray(NbtDataUtil.TRACKED_SHORT_POSITIONS);
+        final int[] intPositions = compound.getIntArray(NbtDataUtil.TRACKED_INT_POSITIONS);
+        final int[] owners = compound.getIntArray(NbtDataUtil.TRACKED_OWNERS);
+        final int[] notifiers = compound.getIntArray(NbtDataUtil.TRACKED_NOTIFIERS);
+        final PlayerTrackerMap map = new PlayerTrackerMap();
+        if (owners.length != shortPositions.length + intPositions.length || notifiers.length != owners.length) {
+            // Corrupted data, drop it instead of failing to load the chunk
+            return map;
+        }
+        for (int i = 0; i < shortPositions.length; i++) {
+            map.setShortTracker((short) shortPositions[i], pack(owners[i], notifiers[i]));
+        }
+        for (int i = 0; i < intPositions.length; i++) {
+            final int index = shortPositions.length + i;
+            map.setIntTracker(intPositions[i], pack(owners[index], notifiers[index]));
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayerMP;
+import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
+
+import java.util.HashSet;
+import java.util.Iterator;
+
+/**
+ * The players tracking an {@link EntityTrackerEntry}, which additionally
+ * keeps {@link IMixinEntityPlayerMP#getTrackedEntries()} of each player up
+ * to date so the entries tracked by a player can be found without scanning
+ * all entries of the tracker.
+ *
+ * <p>The index is maintained by {@link #add}, {@link #remove},
+ * {@link #clear()} and removals through {@link #iterator()}.</p>
+ */
+public final class TrackingPlayerSet extends HashSet<EntityPlayerMP> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient EntityTrackerEntry entry;
+
+    public TrackingPlayerSet(EntityTrackerEntry entry) {
+        this.entry = entry;
+    }
+
+    @Override
+    public boolean add(EntityPlayerMP player) {
+        if (super.add(player)) {
+            ((IMixinEntityPlayerMP) player).getTrackedEntries().add(this.entry);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (super.remove(o)) {
+            ((IMixinEntityPlayerMP) o).getTrackedEntries().remove(this.entry);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        for (EntityPlayerMP player : this) {
+            ((IMixinEntityPlayerMP) player).getTrackedEntries().remove(this.entry);
+        }
+        super.clear();
+    }
+
+    @Override
+    public Iterator<EntityPlayerMP> iterator() {
+        final Iterator<EntityPlayerMP> iterator = super.iterator();
+        return new Iterator<EntityPlayerMP>() {
+
+            private EntityPlayerMP last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public EntityPlayerMP next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                ((IMixinEntityPlayerMP) this.last).getTrackedEntries().remove(TrackingPlayerSet.this.entry);
+            }
+        };
+    }
+
+}
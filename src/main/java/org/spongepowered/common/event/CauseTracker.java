@@ -427,7 +427,7 @@ public void handlePostTickCaptures() {
 
         // Inventory Events
         if (this.currentPlayerPacket instanceof C0EPacketClickWindow){
-            SpongeCommonEventFactory.handleClickInteractInventoryEvent(Cause.of(NamedCause.source(player)), player, (C0EPacketClickWindow) this.currentPlayerPacket);
+            SpongeCommonEventFactory.handleClickInteractInventoryEvent(((IMixinEntityPlayerMP) player).getPacketCause(), player, (C0EPacketClickWindow) this.currentPlayerPacket);
         }
 
         // Handle Entity captures
@@ -447,24 +447,20 @@ public void handleSpawnedEntities() {
             return;
         }
 
+        if (!SpongeImpl.hasListeners(SpawnEntityEvent.class)) {
+            spawnCapturedEntities(capturedEntityList);
+            return;
+        }
+
         this.causeTrackerEntityTimer.startTiming();
         Iterator<Entity> iter = capturedEntityList.iterator();
         ImmutableList.Builder<EntitySnapshot> entitySnapshotBuilder = new ImmutableList.Builder<>();
         while (iter.hasNext()) {
             Entity currentEntity = iter.next();
-            if (this.invalidTransactions != null) {
-                // check to see if this spawn is invalid and if so, remove
-                boolean invalid = false;
-                for (Transaction<BlockSnapshot> blockSnapshot : this.invalidTransactions) {
-                    if (blockSnapshot.getOriginal().getLocation().get().getBlockPosition().equals(currentEntity.getLocation().getBlockPosition())) {
-                        invalid = true;
-                        iter.remove();
-                        break;
-                    }
-                }
-                if (invalid) {
-                    continue;
-                }
+            // check to see if this spawn is invalid and if so, remove
+            if (isInvalidSpawn(currentEntity)) {
+                iter.remove();
+                continue;
             }
 
             // determine if this was caused by a block break and if so, fire as single event
@@ -534,24 +530,20 @@ public void handleDroppedItems() {
             return;
         }
 
+        if (!SpongeImpl.hasListeners(DropItemEvent.class)) {
+            spawnCapturedEntities(capturedEntityItemList);
+            return;
+        }
+
         this.causeTrackerEntityItemTimer.startTiming();
         Iterator<Entity> iter = capturedEntityItemList.iterator();
         ImmutableList.Builder<EntitySnapshot> entitySnapshotBuilder = new ImmutableList.Builder<>();
         while (iter.hasNext()) {
             Entity currentEntity = iter.next();
-            if (this.invalidTransactions != null) {
-                // check to see if this drop is invalid and if so, remove
-                boolean invalid = false;
-                for (Transaction<BlockSnapshot> blockSnapshot : this.invalidTransactions) {
-                    if (blockSnapshot.getOriginal().getLocation().get().getBlockPosition().equals(currentEntity.getLocation().getBlockPosition())) {
-                        invalid = true;
-                        iter.remove();
-                        break;
-                    }
-                }
-                if (invalid) {
-                    continue;
-                }
+            // check to see if this drop is invalid and if so, remove
+            if (isInvalidSpawn(currentEntity)) {
+                iter.remove();
+                continue;
             }
 
             // determine if this was caused by a block break and if so, fire as single event
@@ -613,38 +605,66 @@ public void handleDroppedItems() {
         }
     }
 
+    private boolean isInvalidSpawn(Entity entity) {
+        if (this.invalidTransactions != null) {
+            for (Transaction<BlockSnapshot> blockSnapshot : this.invalidTransactions) {
+                if (blockSnapshot.getOriginal().getLocation().get().getBlockPosition().equals(entity.getLocation().getBlockPosition())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Nobody listens to the spawns, so they are added without creating snapshots, causes and events
+    private void spawnCapturedEntities(List<Entity> capturedEntities) {
+        capturedEntities.removeIf(this::isInvalidSpawn);
+        if (capturedEntities.isEmpty()) {
+            return;
+        }
+        Cause cause = this.getCurrentCause();
+        if (cause == null) {
+            cause = SpongeCommonEventFactory.getEntitySpawnCause((net.minecraft.entity.Entity) capturedEntities.get(0));
+        }
+        addEntities(cause, capturedEntities);
+    }
+
     private boolean handlePostEntityEvent(Cause cause, SpawnEntityEvent event) {
         if (!(SpongeImpl.postEvent(event)) && event.getEntities().size() > 0) {
-            Iterator<Entity> iterator = event.getEntities().iterator();
+            addEntities(cause, event.getEntities());
+            return false;
+        }
 
-            while (iterator.hasNext()) {
-                Entity entity = iterator.next();
-                if (entity.isRemoved()) { // Entity removed in an event handler
-                    iterator.remove();
-                    continue;
-                }
+        return true;
+    }
 
-                net.minecraft.entity.Entity nmsEntity = (net.minecraft.entity.Entity) entity;
-                if (nmsEntity instanceof EntityWeatherEffect) {
-                    addWeatherEffect(nmsEntity, cause);
-                } else {
-                    int x = MathHelper.floor_double(nmsEntity.posX / 16.0D);
-                    int z = MathHelper.floor_double(nmsEntity.posZ / 16.0D);
-                    this.getMinecraftWorld().getChunkFromChunkCoords(x, z).addEntity(nmsEntity);
-                    this.getMinecraftWorld().loadedEntityList.add(nmsEntity);
-                    this.getMixinWorld().onSpongeEntityAdded(nmsEntity);
-                    SpongeHooks.logEntitySpawn(cause, nmsEntity);
-                }
+    private void addEntities(Cause cause, List<Entity> entities) {
+        Iterator<Entity> iterator = entities.iterator();
+
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+            if (entity.isRemoved()) { // Entity removed in an event handler
                 iterator.remove();
+                continue;
             }
-            return false;
-        }
 
-        return true;
+            net.minecraft.entity.Entity nmsEntity = (net.minecraft.entity.Entity) entity;
+            if (nmsEntity instanceof EntityWeatherEffect) {
+                addWeatherEffect(nmsEntity, cause);
+            } else {
+                int x = MathHelper.floor_double(nmsEntity.posX / 16.0D);
+                int z = MathHelper.floor_double(nmsEntity.posZ / 16.0D);
+                this.getMinecraftWorld().getChunkFromChunkCoords(x, z).addEntity(nmsEntity);
+                this.getMinecraftWorld().loadedEntityList.add(nmsEntity);
+                this.getMixinWorld().onSpongeEntityAdded(nmsEntity);
+                SpongeHooks.logEntitySpawn(cause, nmsEntity);
+            }
+            iterator.remove();
+        }
     }
 
     private boolean addWeatherEffect(net.minecraft.entity.Entity entity, Cause cause) {
-        if (entity instanceof EntityLightningBolt) {
+        if (entity instanceof EntityLightningBolt && SpongeImpl.hasListeners(LightningEvent.Pre.class)) {
             LightningEvent.Pre event = SpongeEventFactory.createLightningEventPre(((IMixinEntityLightningBolt) entity).getCause());
             SpongeImpl.postEvent(event);
             if (!event.isCancelled()) {
@@ -955,7 +975,8 @@ private void handlePostPlayerBlockEvent(CaptureType captureType, List<Transactio
     }
 
     public void handleNonLivingEntityDestruct(net.minecraft.entity.Entity entityIn) {
-        if (entityIn.isDead && (!(entityIn instanceof EntityLivingBase) || entityIn instanceof EntityArmorStand)) {
+        if (entityIn.isDead && (!(entityIn instanceof EntityLivingBase) || entityIn instanceof EntityArmorStand)
+                && SpongeImpl.hasListeners(DestructEntityEvent.class)) {
             MessageChannel originalChannel = MessageChannel.TO_NONE;
 
             IMixinEntity spongeEntity = (IMixinEntity) entityIn;
@@ -1042,9 +1063,10 @@ public boolean processSpawnEntity(Entity entity, Cause spawnCause) {
                     world.playerEntities.add(entityplayer);
                     world.updateAllPlayersSleepingFlag();
                 }
-                if (SpongeImpl.postEvent(SpongeEventFactory.createSpawnEntityEvent(cause, Lists.newArrayList(entity),
-                        Lists.newArrayList(entity.createSnapshot()), getWorld())) && !flag) {
-                    return false;
+                // Forced spawns can't be cancelled, so the event is only for the listeners
+                if (SpongeImpl.hasListeners(SpawnEntityEvent.class)) {
+                    SpongeImpl.postEvent(SpongeEventFactory.createSpawnEntityEvent(cause, Lists.newArrayList(entity),
+                            Lists.newArrayList(entity.createSnapshot()), getWorld()));
                 }
                 this.getMinecraftWorld().getChunkFromChunkCoords(i, j).addEntity(entityIn);
                 this.getMinecraftWorld().loadedEntityList.add(entityIn);
@@ -1058,6 +1080,16 @@ public boolean processSpawnEntity(Entity entity, Cause spawnCause) {
                 return false;
             }
 
+            if (!SpongeImpl.hasListeners(SpawnEntityEvent.class)) {
+                if (entityIn instanceof EntityWeatherEffect) {
+                    return addWeatherEffect(entityIn, cause);
+                }
+                this.getMinecraftWorld().getChunkFromChunkCoords(i, j).addEntity(entityIn);
+                this.getMinecraftWorld().loadedEntityList.add(entityIn);
+                this.getMixinWorld().onSpongeEntityAdded(entityIn);
+                return true;
+            }
+
             org.spongepowered.api.event.entity.SpawnEntityEvent event = null;
             List<Entity> entitiesToSpawn = Lists.newArrayList(entity);
             ImmutableList<EntitySnapshot> entitySnapshots = ImmutableList.of(entity.createSnapshot());
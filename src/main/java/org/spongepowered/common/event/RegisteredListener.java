@@ -28,7 +28,7 @@
 
 import co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
@@ -108,14 +108,19 @@ public static final class Cache {
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = ImmutableList.copyOf(listeners);
 
-            this.listenersByOrder = Maps.newEnumMap(Order.class);
+            EnumMap<Order, ImmutableList.Builder<RegisteredListener<?>>> builders = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
+                builders.put(order, ImmutableList.builder());
             }
             for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+                builders.get(handler.getOrder()).add(handler);
+            }
+
+            this.listenersByOrder = Maps.newEnumMap(Order.class);
+            for (Order order : ORDERS) {
+                this.listenersByOrder.put(order, builders.get(order).build());
             }
         }
 
@@ -554,8 +554,13 @@ private static void handleCustomSlot(EntityPlayerMP player, List<SlotTransaction
     }
 
     @SuppressWarnings("unchecked")
+    @Nullable
     public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.World world, @Nullable net.minecraft.entity.Entity sourceEntity,
                                                             List<net.minecraft.entity.Entity> entities) {
+        if (!SpongeImpl.hasListeners(CollideEntityEvent.class)) {
+            return null;
+        }
+
         IMixinWorld spongeWorld = (IMixinWorld) world;
         CauseTracker causeTracker = spongeWorld.getCauseTracker();
         ImmutableList<Entity> originalEntities = ImmutableList.copyOf((List<Entity>) (List<?>) entities);
@@ -566,7 +571,7 @@ public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.Worl
     }
 
     public static boolean handleChangeBlockEventPre(net.minecraft.world.World worldIn, BlockPos pos) {
-        if (worldIn.isRemote) {
+        if (worldIn.isRemote || !SpongeImpl.hasListeners(ChangeBlockEvent.Pre.class)) {
             return false;
         }
 
@@ -586,8 +591,19 @@ public static boolean handleChangeBlockEventPre(net.minecraft.world.World worldI
         return false;
     }
 
+    /**
+     * Throws a {@link NotifyNeighborBlockEvent} for the given sides.
+     *
+     * @return The event, or null if nothing listens to it and all
+     *     sides should be notified
+     */
     @SuppressWarnings("rawtypes")
+    @Nullable
     public static NotifyNeighborBlockEvent callNotifyNeighborEvent(World world, BlockPos pos, EnumSet notifiedSides) {
+        if (!SpongeImpl.hasListeners(NotifyNeighborBlockEvent.class)) {
+            return null;
+        }
+
         Map<Direction, BlockState> neighbors = new HashMap<>();
         for (Object obj : notifiedSides) {
             EnumFacing notifiedSide = (EnumFacing) obj;
@@ -969,6 +985,9 @@ public static void handleEntityMovement(net.minecraft.entity.Entity entity) {
         if (entity instanceof Player) {
             return; // this is handled elsewhere
         }
+        if (!SpongeImpl.hasListeners(DisplaceEntityEvent.Move.class)) {
+            return;
+        }
         if (entity.lastTickPosX != entity.posX || entity.lastTickPosY != entity.posY || entity.lastTickPosZ != entity.posZ
             || entity.rotationPitch != entity.prevRotationPitch || entity.rotationYaw != entity.prevRotationYaw) {
             // yes we have a move event.
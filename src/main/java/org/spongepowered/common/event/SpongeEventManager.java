@@ -28,9 +28,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.TimingsManager;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
@@ -50,11 +47,14 @@
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import javax.inject.Inject;
@@ -74,16 +74,24 @@ public class SpongeEventManager implements EventManager {
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Entries are immutable snapshots, so posting never needs to acquire
+     * the lock. When handlers are added or removed only the entries whose
+     * event type is a subtype of a changed handler's event class are rebaked,
+     * all writes happen while holding the lock.</p>
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            CacheBuilder.newBuilder().build(new CacheLoader<Class<? extends Event>, RegisteredListener.Cache>() {
-                @Override
-                public RegisteredListener.Cache load(Class<? extends Event> eventClass) throws Exception {
-                    return bakeHandlers(eventClass);
-                }
-            });
+    private final Map<Class<? extends Event>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>();
+
+    /**
+     * The event supertypes of each cached event type, so rebaking doesn't
+     * have to resolve the type hierarchy again.
+     */
+    private final Map<Class<?>, Set<Class<?>>> eventTypesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Whether any handler may receive an event of a type, cleared whenever
+     * handlers are added or removed.
+     */
+    private final Map<Class<?>, Boolean> listenedEventsCache = new ConcurrentHashMap<>();
 
     @Inject
     public SpongeEventManager(PluginManager pluginManager) {
@@ -92,14 +100,11 @@ public SpongeEventManager(PluginManager pluginManager) {
 
     RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        Set<Class<?>> types = (Set) TypeToken.of(rootEvent).getTypes().rawTypes();
+        Set<Class<?>> types = getEventTypes(rootEvent);
 
         synchronized (this.lock) {
             for (Class<?> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
+                handlers.addAll(this.handlersByEvent.get(type));
             }
         }
 
@@ -107,6 +112,40 @@ RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         return new RegisteredListener.Cache(handlers);
     }
 
+    private Set<Class<?>> getEventTypes(Class<?> rootEvent) {
+        Set<Class<?>> types = this.eventTypesCache.get(rootEvent);
+        if (types == null) {
+            types = Sets.newHashSet();
+            for (Class<?> type : TypeToken.of(rootEvent).getTypes().rawTypes()) {
+                if (Event.class.isAssignableFrom(type)) {
+                    types.add(type);
+                }
+            }
+            types = Collections.unmodifiableSet(types);
+            this.eventTypesCache.put(rootEvent, types);
+        }
+        return types;
+    }
+
+    /**
+     * Rebakes the cached handlers of every event type that is affected by a
+     * change to the handlers of the given event classes. Must be called while
+     * holding the lock.
+     *
+     * @param changedEvents The event classes whose handlers changed
+     */
+    private void rebakeHandlers(Collection<Class<?>> changedEvents) {
+        for (Class<? extends Event> eventClass : this.handlersCache.keySet()) {
+            Set<Class<?>> types = getEventTypes(eventClass);
+            for (Class<?> changed : changedEvents) {
+                if (types.contains(changed)) {
+                    this.handlersCache.put(eventClass, bakeHandlers(eventClass));
+                    break;
+                }
+            }
+        }
+    }
+
     private static boolean isValidHandler(Method method) {
         int modifiers = method.getModifiers();
         if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
@@ -125,16 +164,17 @@ private void register(RegisteredListener<?> handler) {
 
     private void register(List<RegisteredListener<?>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = Sets.newHashSet();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                this.listenedEventsCache.clear();
+                rebakeHandlers(changed);
             }
         }
     }
@@ -218,19 +258,20 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = Sets.newHashSet();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                this.listenedEventsCache.clear();
+                rebakeHandlers(changed);
             }
         }
     }
@@ -249,7 +290,46 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.getUnchecked(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
+    }
+
+    protected RegisteredListener.Cache getHandlerCache(Class<? extends Event> eventClass) {
+        RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (cache == null) {
+            synchronized (this.lock) {
+                cache = this.handlersCache.get(eventClass);
+                if (cache == null) {
+                    cache = bakeHandlers(eventClass);
+                    this.handlersCache.put(eventClass, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Gets whether any registered handler could receive an event of the
+     * given type, including handlers of its subtypes. Callers can use this to
+     * skip creating events nobody listens to.
+     *
+     * @param eventClass The event class
+     * @return True if the event type has listeners
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        Boolean listened = this.listenedEventsCache.get(checkNotNull(eventClass, "eventClass"));
+        if (listened == null) {
+            synchronized (this.lock) {
+                listened = false;
+                for (Class<?> type : this.handlersByEvent.keySet()) {
+                    if (type.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(type)) {
+                        listened = true;
+                        break;
+                    }
+                }
+                this.listenedEventsCache.put(eventClass, listened);
+            }
+        }
+        return listened;
     }
 
     @SuppressWarnings("unchecked")
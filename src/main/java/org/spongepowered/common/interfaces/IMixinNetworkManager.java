@@ -52,4 +52,15 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Sets whether packets sent to this connection are held back and
+     * written with a single flush, either at the end of the tick or before
+     * the next packet sent while not batching.
+     *
+     * @param batching Whether to batch packets
+     */
+    void setBatchingPackets(boolean batching);
+
+    void flushBatchedPackets();
 }
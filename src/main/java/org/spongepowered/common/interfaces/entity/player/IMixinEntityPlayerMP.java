@@ -25,11 +25,15 @@
 package org.spongepowered.common.interfaces.entity.player;
 
 import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.entity.EntityTrackerEntry;
 import net.minecraft.item.ItemStack;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.text.channel.MessageChannel;
 
+import java.util.Set;
+
 import javax.annotation.Nullable;
 
 public interface IMixinEntityPlayerMP {
@@ -52,7 +56,28 @@ default boolean usesCustomClient() {
 
     void setPacketItem(ItemStack itemstack);
 
-    void setPacketCursor(ItemStackSnapshot cursor);
+    /**
+     * Captures the current cursor item, the snapshot returned by
+     * {@link #getPacketCursor()} is only created when it is requested.
+     */
+    void capturePacketCursor();
+
+    void resetPacketCursor();
+
+    /**
+     * Gets the cause used while processing packets sent by this player.
+     *
+     * @return The packet cause
+     */
+    Cause getPacketCause();
+
+    /**
+     * Gets the tracker entries of the entities this player is tracking, only
+     * maintained when spatial entity tracking is enabled.
+     *
+     * @return The tracked entries
+     */
+    Set<EntityTrackerEntry> getTrackedEntries();
 
     void restorePacketItem();
 
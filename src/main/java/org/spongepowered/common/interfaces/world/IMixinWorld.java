@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.WorldSettings;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.world.CaptureType;
@@ -79,6 +80,14 @@ public interface IMixinWorld {
 
     void setActiveConfig(SpongeConfig<?> config);
 
+    /**
+     * Gets the {@link WorldSettings} snapshot of the active config, rebuilding
+     * it if the active config was changed or reloaded.
+     *
+     * @return The settings of this world
+     */
+    WorldSettings getSettings();
+
     WorldTimingsHandler getTimingsHandler();
 
 }
@@ -52,7 +52,7 @@ public void onNotifyNeighbors(net.minecraft.world.World worldIn, BlockPos pos, I
         }
 
         NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent((World) worldIn, pos, java.util.EnumSet.of(enumfacing.getOpposite()));
-        if (!event.isCancelled() && !event.getNeighbors().isEmpty()) {
+        if (event == null || !event.isCancelled() && !event.getNeighbors().isEmpty()) {
             worldIn.notifyBlockOfStateChange(blockpos, (BlockRedstoneDiode)(Object) this);
             worldIn.notifyNeighborsOfStateExcept(blockpos, (BlockRedstoneDiode)(Object) this, enumfacing);
         }
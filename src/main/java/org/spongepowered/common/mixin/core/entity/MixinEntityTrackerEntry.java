@@ -38,7 +38,9 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.living.human.EntityHuman;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 
 import java.util.Set;
@@ -61,16 +63,22 @@ public void onSendSpawnPacket(final NetHandlerPlayServer thisCtx, final Packet<?
             return;
         }
         final EntityHuman human = (EntityHuman) this.trackedEntity;
-        // Adds the GameProfile to the client
-        thisCtx.sendPacket(human.createPlayerListPacket(S38PacketPlayerListItem.Action.ADD_PLAYER));
-        // Actually spawn the human (a player)
-        thisCtx.sendPacket(spawnPacket);
-        // Remove from tab list
-        final S38PacketPlayerListItem removePacket = human.createPlayerListPacket(S38PacketPlayerListItem.Action.REMOVE_PLAYER);
-        if (human.canRemoveFromListImmediately()) {
-            thisCtx.sendPacket(removePacket);
-        } else {
-            human.removeFromTabListDelayed(playerIn, removePacket);
+        final IMixinNetworkManager connection = (IMixinNetworkManager) thisCtx.netManager;
+        connection.setBatchingPackets(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useBatchHumanPackets());
+        try {
+            // Adds the GameProfile to the client
+            thisCtx.sendPacket(human.createPlayerListPacket(S38PacketPlayerListItem.Action.ADD_PLAYER));
+            // Actually spawn the human (a player)
+            thisCtx.sendPacket(spawnPacket);
+            // Remove from tab list
+            final S38PacketPlayerListItem removePacket = human.createPlayerListPacket(S38PacketPlayerListItem.Action.REMOVE_PLAYER);
+            if (human.canRemoveFromListImmediately()) {
+                thisCtx.sendPacket(removePacket);
+            } else {
+                human.removeFromTabListDelayed(playerIn, removePacket);
+            }
+        } finally {
+            connection.setBatchingPackets(false);
         }
     }
 
@@ -89,17 +97,27 @@ public void onSendMetadata(CallbackInfo ci) {
         }
         EntityHuman human = (EntityHuman) this.trackedEntity;
         Packet<?>[] packets = human.popQueuedPackets(null);
+        boolean batch = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useBatchHumanPackets();
         for (EntityPlayerMP player : this.trackingPlayers) {
-            if (packets != null) {
-                for (Packet<?> packet : packets) {
-                    player.playerNetServerHandler.sendPacket(packet);
-                }
-            }
             Packet<?>[] playerPackets = human.popQueuedPackets(player);
-            if (playerPackets != null) {
-                for (Packet<?> packet : playerPackets) {
-                    player.playerNetServerHandler.sendPacket(packet);
+            if (packets == null && playerPackets == null) {
+                continue;
+            }
+            IMixinNetworkManager connection = (IMixinNetworkManager) player.playerNetServerHandler.netManager;
+            connection.setBatchingPackets(batch);
+            try {
+                if (packets != null) {
+                    for (Packet<?> packet : packets) {
+                        player.playerNetServerHandler.sendPacket(packet);
+                    }
+                }
+                if (playerPackets != null) {
+                    for (Packet<?> packet : playerPackets) {
+                        player.playerNetServerHandler.sendPacket(packet);
+                    }
                 }
+            } finally {
+                connection.setBatchingPackets(false);
             }
         }
     }
@@ -35,6 +35,7 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.EntityTrackerEntry;
 import net.minecraft.entity.ai.attributes.ServersideAttributeMap;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -166,7 +167,11 @@ public abstract class MixinEntityPlayerMP extends MixinEntityPlayer implements P
     // Used to restore original item received in a packet after canceling an event
     private ItemStack packetItem;
     // Used to restore current cursor to the state when packet was received
-    private ItemStackSnapshot packetCursor;
+    @Nullable private ItemStack packetCursor;
+    @Nullable private ItemStackSnapshot packetCursorSnapshot;
+    private boolean hasPacketCursor;
+    @Nullable private Cause packetCause;
+    @Nullable private Set<EntityTrackerEntry> trackedEntries;
 
     private final User user = SpongeImpl.getGame().getServiceManager().provideUnchecked(UserStorageService.class).getOrCreate((GameProfile) getGameProfile());
 
@@ -765,12 +770,41 @@ public void setPacketItem(ItemStack itemstack) {
 
     @Override
     public ItemStackSnapshot getPacketCursor() {
-        return this.packetCursor;
+        if (this.hasPacketCursor && this.packetCursorSnapshot == null) {
+            this.packetCursorSnapshot = this.packetCursor == null ? ItemStackSnapshot.NONE
+                    : ((org.spongepowered.api.item.inventory.ItemStack) this.packetCursor).createSnapshot();
+        }
+        return this.packetCursorSnapshot;
+    }
+
+    @Override
+    public void capturePacketCursor() {
+        this.packetCursor = ItemStack.copyItemStack(this.inventory.getItemStack());
+        this.packetCursorSnapshot = null;
+        this.hasPacketCursor = true;
+    }
+
+    @Override
+    public void resetPacketCursor() {
+        this.packetCursor = null;
+        this.packetCursorSnapshot = null;
+        this.hasPacketCursor = false;
+    }
+
+    @Override
+    public Set<EntityTrackerEntry> getTrackedEntries() {
+        if (this.trackedEntries == null) {
+            this.trackedEntries = Sets.newIdentityHashSet();
+        }
+        return this.trackedEntries;
     }
 
     @Override
-    public void setPacketCursor(ItemStackSnapshot cursor) {
-        this.packetCursor = cursor;
+    public Cause getPacketCause() {
+        if (this.packetCause == null) {
+            this.packetCause = Cause.of(NamedCause.source(this));
+        }
+        return this.packetCause;
     }
 
     @Override
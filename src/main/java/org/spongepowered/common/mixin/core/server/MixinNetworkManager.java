@@ -25,20 +25,29 @@
 package org.spongepowered.common.mixin.core.server;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import net.minecraft.network.EnumConnectionState;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeMinecraftVersion;
 import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.network.PacketBatchStats;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 
 @SuppressWarnings("rawtypes")
 @Mixin(NetworkManager.class)
@@ -47,9 +56,18 @@ public abstract class MixinNetworkManager extends SimpleChannelInboundHandler im
     @Shadow private Channel channel;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
+
+    @Shadow
+    private void flushOutboundQueue() {
+    }
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
+    private final List<Packet<?>> batchedPackets = new ArrayList<>();
+    private boolean batchingPackets;
+    // Checked before locking, so connections that never batch don't pay for it
+    private volatile boolean hasBatchedPackets;
 
     private static final InetSocketAddress localhost = InetSocketAddress.createUnresolved("127.0.0.1", 0);
 
@@ -93,4 +111,71 @@ public MinecraftVersion getVersion() {
     public void setVersion(int version) {
         this.version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
+
+    @Override
+    public void setBatchingPackets(boolean batching) {
+        this.batchingPackets = batching;
+    }
+
+    @Override
+    public void flushBatchedPackets() {
+        if (!this.hasBatchedPackets) {
+            return;
+        }
+        final Packet<?>[] packets;
+        synchronized (this.batchedPackets) {
+            if (this.batchedPackets.isEmpty()) {
+                return;
+            }
+            packets = this.batchedPackets.toArray(new Packet<?>[this.batchedPackets.size()]);
+            this.batchedPackets.clear();
+            this.hasBatchedPackets = false;
+        }
+        if (!this.isChannelOpen()) {
+            return;
+        }
+        // Packets queued by vanilla while the channel was closed go first
+        this.flushOutboundQueue();
+        PacketBatchStats.recordFlush(packets.length);
+        if (this.channel.eventLoop().inEventLoop()) {
+            this.writeBatchedPackets(packets);
+        } else {
+            this.channel.eventLoop().execute(() -> this.writeBatchedPackets(packets));
+        }
+    }
+
+    private void writeBatchedPackets(Packet<?>[] packets) {
+        for (Packet<?> packet : packets) {
+            this.channel.write(packet).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        }
+        this.channel.flush();
+    }
+
+    @Inject(method = "sendPacket(Lnet/minecraft/network/Packet;)V", at = @At("HEAD"), cancellable = true)
+    private void onSendPacket(Packet<?> packet, CallbackInfo ci) {
+        // Only play packets on a connection in the play state are batched, as
+        // the batch is written without the connection state switch of dispatchPacket
+        if (this.batchingPackets && this.isChannelOpen() && EnumConnectionState.getFromPacket(packet) == EnumConnectionState.PLAY
+                && this.channel.attr(NetworkManager.attrKeyConnectionState).get() == EnumConnectionState.PLAY) {
+            synchronized (this.batchedPackets) {
+                this.batchedPackets.add(packet);
+                this.hasBatchedPackets = true;
+            }
+            ci.cancel();
+        } else {
+            // Keep the order of packets sent outside of the batch
+            this.flushBatchedPackets();
+        }
+    }
+
+    @Inject(method = "sendPacket(Lnet/minecraft/network/Packet;Lio/netty/util/concurrent/GenericFutureListener;"
+            + "[Lio/netty/util/concurrent/GenericFutureListener;)V", at = @At("HEAD"))
+    private void onSendPacketWithListeners(CallbackInfo ci) {
+        this.flushBatchedPackets();
+    }
+
+    @Inject(method = "processReceivedPackets", at = @At("HEAD"))
+    private void onProcessReceivedPackets(CallbackInfo ci) {
+        this.flushBatchedPackets();
+    }
 }
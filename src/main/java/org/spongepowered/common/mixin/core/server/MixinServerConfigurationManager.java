@@ -107,6 +107,8 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.network.play.server.IMixinS44PacketWorldBorder;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
+import org.spongepowered.common.service.permission.base.ResolvedPermissionCache;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.DimensionManager;
@@ -230,6 +232,7 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
         Optional<Instant> firstJoined = SpongePlayerDataHandler.getFirstJoined(playerIn.getUniqueID());
         Instant lastJoined = Instant.now();
         SpongePlayerDataHandler.setPlayerInfo(playerIn.getUniqueID(), firstJoined.orElse(lastJoined), lastJoined);
+        UserIndex.addProfile(playerIn.getGameProfile());
 
         double x = loginEvent.getToTransform().getPosition().getX();
         double y = loginEvent.getToTransform().getPosition().getY();
@@ -758,4 +761,11 @@ private void onWritePlayerFile(EntityPlayerMP playerMP, CallbackInfo callbackInf
         SpongePlayerDataHandler.savePlayer(playerMP.getUniqueID());
     }
 
+    // Users without an ops entry get their op level from canSendCommands, which
+    // depends on this flag. It only exists on the client, for LAN worlds.
+    @Inject(method = "setCommandsAllowedForAll", at = @At("RETURN"), require = 0, expect = 0)
+    private void onSetCommandsAllowedForAll(boolean allowed, CallbackInfo ci) {
+        ResolvedPermissionCache.invalidateAll();
+    }
+
 }
@@ -51,6 +51,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.IMixinNetHandlerLoginServer;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
 import java.net.SocketAddress;
 import java.util.Optional;
@@ -102,6 +103,9 @@ public boolean fireAuthEvent() {
         SpongeImpl.postEvent(event);
         if (event.isCancelled()) {
             this.disconnectClient(event.isMessageCancelled() ? Optional.empty() : Optional.of(event.getMessage()));
+        } else {
+            // Read the player data off the server thread while the login completes
+            SpongePlayerDataHandler.preload(this.loginGameProfile.getId());
         }
         return event.isCancelled();
     }
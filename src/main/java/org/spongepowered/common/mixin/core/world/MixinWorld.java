@@ -135,6 +135,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.WorldSettings;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.event.CauseTracker;
@@ -204,6 +205,8 @@ public abstract class MixinWorld implements World, IMixinWorld {
     private SpongeChunkProvider spongegen;
     protected boolean processingExplosion = false;
     protected SpongeConfig<?> activeConfig;
+    // Also read from the network threads when packets are checked for exploits
+    private volatile WorldSettings settings;
     private MessageChannel channel = MessageChannel.world(this);
     protected CauseTracker causeTracker;
     private final Map<net.minecraft.entity.Entity, Vector3d> rotationUpdates = new HashMap<>();
@@ -1083,6 +1086,16 @@ public void setActiveConfig(SpongeConfig<?> config) {
         this.activeConfig = config;
     }
 
+    @Override
+    public WorldSettings getSettings() {
+        final WorldSettings settings = this.settings;
+        final SpongeConfig<?> config = this.activeConfig;
+        if (settings != null && settings.isCurrent(config)) {
+            return settings;
+        }
+        return this.settings = new WorldSettings(config == null ? SpongeHooks.getActiveConfig((net.minecraft.world.World) (Object) this) : config);
+    }
+
     @Override
     public PortalAgent getPortalAgent() {
         return null;
@@ -1334,12 +1347,12 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType) {
         NotifyNeighborBlockEvent
                 event =
                 SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, java.util.EnumSet.allOf(EnumFacing.class));
-        if (event.isCancelled()) {
+        if (event != null && event.isCancelled()) {
             return;
         }
 
         for (EnumFacing facing : EnumFacing.values()) {
-            if (event.getNeighbors().keySet().contains(DirectionFacingProvider.getInstance().getKey(facing).get())) {
+            if (event == null || event.getNeighbors().keySet().contains(DirectionFacingProvider.getInstance().getKey(facing).get())) {
                 causeTracker.notifyBlockOfStateChange(pos.offset(facing), blockType, pos);
             }
         }
@@ -1370,12 +1383,13 @@ public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFaci
         }
 
         NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, directions);
-        if (event.isCancelled()) {
+        if (event != null && event.isCancelled()) {
             return;
         }
 
         for (EnumFacing facing : EnumFacing.values()) {
-            if (event.getNeighbors().keySet().contains(DirectionFacingProvider.getInstance().getKey(facing).get())) {
+            if (event == null ? directions.contains(facing)
+                    : event.getNeighbors().keySet().contains(DirectionFacingProvider.getInstance().getKey(facing).get())) {
                 causeTracker.notifyBlockOfStateChange(pos.offset(facing), blockType, pos);
             }
         }
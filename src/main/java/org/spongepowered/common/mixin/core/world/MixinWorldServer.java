@@ -116,8 +116,12 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.RandomTickSelector;
+import org.spongepowered.common.world.ScheduledBlockUpdateSet;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -137,7 +141,8 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private static final String PROFILER_ESS = "Lnet/minecraft/profiler/Profiler;endStartSection(Ljava/lang/String;)V";
 
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
-    @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet = new ScheduledBlockUpdateSet();
+    @Shadow private List<NextTickListEntry> pendingTickListEntriesThisTick;
     @Shadow private Teleporter worldTeleporter;
     @Shadow private ServerBlockEventList[] blockEventQueue;
     @Shadow private int blockEventCacheIndex;
@@ -156,6 +161,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private boolean isCapturingBlocks = false;
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
+    private boolean parallelRandomTickSelection = false;
 
     @Inject(method = "<init>", at = @At("RETURN"))
     public void onConstruct(CallbackInfo ci) {
@@ -179,6 +185,7 @@ public void onConstruct(CallbackInfo ci) {
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
+        this.parallelRandomTickSelection = this.getActiveConfig().getConfig().getWorld().getParallelRandomTickSelection();
     }
 
     @Inject(method = "createSpawnPosition(Lnet/minecraft/world/WorldSettings;)V", at = @At("HEAD"), cancellable = true)
@@ -215,6 +222,7 @@ protected void updateBlocks()
 
             final CauseTracker causeTracker = this.getCauseTracker();
             boolean captureBlocks = causeTracker.isCapturingBlocks();
+            final List<Chunk> randomTickChunks = this.parallelRandomTickSelection ? new ArrayList<>(this.activeChunkSet.size()) : null;
             Iterator<ChunkCoordIntPair> iterator = this.activeChunkSet.iterator();
             while (iterator.hasNext())
             {
@@ -300,7 +308,12 @@ protected void updateBlocks()
                 this.theProfiler.endStartSection("tickBlocks");
                 int l2 = this.mcWorldServer.getGameRules().getInt("randomTickSpeed");
 
-                if (l2 > 0)
+                // Sponge start - select the blocks to tick in parallel once all chunks were visited
+                if (l2 > 0 && randomTickChunks != null)
+                {
+                    randomTickChunks.add(chunk);
+                }
+                else if (l2 > 0) // Sponge end
                 {
                     for (ExtendedBlockStorage extendedblockstorage : chunk.getBlockStorageArray())
                     {
@@ -322,14 +335,7 @@ protected void updateBlocks()
                                     // Sponge start - capture random tick
                                     // ++i;
                                     BlockPos pos = new BlockPos(l1 + k, j2 + extendedblockstorage.getYLocation(), i2 + l);
-                                    IMixinBlock spongeBlock = (IMixinBlock) block;
-                                    spongeBlock.getTimingsHandler().startTiming();
-                                    if (causeTracker.hasTickingBlock() || causeTracker.isIgnoringCaptures()) {
-                                        block.randomTick(this.mcWorldServer, pos, iblockstate, this.rand);
-                                    } else {
-                                        causeTracker.randomTickBlock(block, pos, iblockstate, this.rand);
-                                    }
-                                    spongeBlock.getTimingsHandler().stopTiming();
+                                    this.randomTickBlock(causeTracker, block, pos, iblockstate);
                                     // Sponge end
                                 }
                             }
@@ -340,7 +346,53 @@ protected void updateBlocks()
                 this.timings.updateBlocksRandomTick.stopTiming();
                 this.theProfiler.endSection();
             }
+
+            // Sponge start - tick the blocks selected in parallel, in chunk order
+            if (randomTickChunks != null && !randomTickChunks.isEmpty()) {
+                this.randomTickSelectedBlocks(causeTracker, randomTickChunks);
+            }
+            // Sponge end
+        }
+    }
+
+    private void randomTickSelectedBlocks(CauseTracker causeTracker, List<Chunk> chunks) {
+        this.theProfiler.startSection("tickBlocks");
+        this.timings.updateBlocksRandomTick.startTiming();
+        this.updateLCG = this.updateLCG * 3 + 1013904223;
+        final int randomTickSpeed = this.mcWorldServer.getGameRules().getInt("randomTickSpeed");
+        final int[][] selected = RandomTickSelector.select(chunks, this.updateLCG, randomTickSpeed);
+        for (int i = 0; i < selected.length; i++) {
+            final Chunk chunk = chunks.get(i);
+            final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+            for (int packed : selected[i]) {
+                final int x = RandomTickSelector.unpackX(packed);
+                final int y = RandomTickSelector.unpackY(packed);
+                final int z = RandomTickSelector.unpackZ(packed);
+                final ExtendedBlockStorage storage = storages[y >> 4];
+                if (storage == null) {
+                    continue;
+                }
+                final IBlockState state = storage.get(x, y & 15, z);
+                final Block block = state.getBlock();
+                // A previous tick may have changed the selected block
+                if (block.getTickRandomly()) {
+                    this.randomTickBlock(causeTracker, block, new BlockPos((chunk.xPosition << 4) + x, y, (chunk.zPosition << 4) + z), state);
+                }
+            }
+        }
+        this.timings.updateBlocksRandomTick.stopTiming();
+        this.theProfiler.endSection();
+    }
+
+    private void randomTickBlock(CauseTracker causeTracker, Block block, BlockPos pos, IBlockState state) {
+        IMixinBlock spongeBlock = (IMixinBlock) block;
+        spongeBlock.getTimingsHandler().startTiming();
+        if (causeTracker.hasTickingBlock() || causeTracker.isIgnoringCaptures()) {
+            block.randomTick(this.mcWorldServer, pos, state, this.rand);
+        } else {
+            causeTracker.randomTickBlock(block, pos, state, this.rand);
         }
+        spongeBlock.getTimingsHandler().stopTiming();
     }
 
     @Redirect(method = "updateBlockTick", at = @At(value = "INVOKE", target= "Lnet/minecraft/world/WorldServer;isAreaLoaded(Lnet/minecraft/util/BlockPos;Lnet/minecraft/util/BlockPos;)Z"))
@@ -796,16 +848,65 @@ public void updateEntities()
 
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
+        final List<NextTickListEntry> entries = new ArrayList<>(getScheduledBlockUpdateSet().getEntriesAt(new BlockPos(x, y, z)));
+        Collections.sort(entries);
         ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
-            }
+        for (NextTickListEntry sbu : entries) {
+            builder.add((ScheduledBlockUpdate) sbu);
         }
         return builder.build();
     }
 
+    private ScheduledBlockUpdateSet getScheduledBlockUpdateSet() {
+        return (ScheduledBlockUpdateSet) this.pendingTickListEntriesTreeSet;
+    }
+
+    /**
+     * Collects the pending updates around a chunk from the chunk buckets of
+     * the {@link ScheduledBlockUpdateSet} instead of scanning every pending
+     * update, which happens for every chunk that is saved.
+     */
+    @Inject(method = "getPendingBlockUpdates(Lnet/minecraft/world/chunk/Chunk;Z)Ljava/util/List;", at = @At("HEAD"), cancellable = true)
+    public void onGetPendingBlockUpdates(Chunk chunk, boolean remove, CallbackInfoReturnable<List<NextTickListEntry>> cir) {
+        // Same bounds as vanilla, the chunk extended by 2 blocks towards negative x and z
+        final int minX = (chunk.xPosition << 4) - 2;
+        final int maxX = minX + 16 + 2;
+        final int minZ = (chunk.zPosition << 4) - 2;
+        final int maxZ = minZ + 16 + 2;
+        final List<NextTickListEntry> pending = new ArrayList<>();
+        for (int chunkX = chunk.xPosition - 1; chunkX <= chunk.xPosition; chunkX++) {
+            for (int chunkZ = chunk.zPosition - 1; chunkZ <= chunk.zPosition; chunkZ++) {
+                for (NextTickListEntry entry : getScheduledBlockUpdateSet().getEntriesInChunk(chunkX, chunkZ)) {
+                    if (isWithin(entry.position, minX, maxX, minZ, maxZ)) {
+                        pending.add(entry);
+                    }
+                }
+            }
+        }
+        Collections.sort(pending);
+        if (remove) {
+            for (NextTickListEntry entry : pending) {
+                this.pendingTickListEntriesHashSet.remove(entry);
+                this.pendingTickListEntriesTreeSet.remove(entry);
+            }
+        }
+        for (Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator(); iterator.hasNext(); ) {
+            final NextTickListEntry entry = iterator.next();
+            if (isWithin(entry.position, minX, maxX, minZ, maxZ)) {
+                if (remove) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    iterator.remove();
+                }
+                pending.add(entry);
+            }
+        }
+        cir.setReturnValue(pending.isEmpty() ? null : pending);
+    }
+
+    private static boolean isWithin(BlockPos pos, int minX, int maxX, int minZ, int maxZ) {
+        return pos.getX() >= minX && pos.getX() < maxX && pos.getZ() >= minZ && pos.getZ() < maxZ;
+    }
+
     private NextTickListEntry tmpScheduledObj;
 
     @Redirect(method = "updateBlockTick(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;II)V",
@@ -1055,6 +1156,7 @@ public void setActiveConfig(SpongeConfig<?> config) {
         this.chunkUnloadDelay = this.activeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.weatherIceAndSnowEnabled = this.activeConfig.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.activeConfig.getConfig().getWorld().getWeatherThunder();
+        this.parallelRandomTickSelection = this.activeConfig.getConfig().getWorld().getParallelRandomTickSelection();
         if (this.getChunkProvider() != null) {
             final IMixinChunkProviderServer mixinChunkProvider = (IMixinChunkProviderServer) this.getChunkProvider();
             final int maxChunkUnloads = this.activeConfig.getConfig().getWorld().getMaxChunkUnloads();
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.exploit;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.event.ClickEvent;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.client.C10PacketCreativeInventoryAction;
+import net.minecraft.network.play.client.C12PacketUpdateSign;
+import net.minecraft.network.play.client.C17PacketCustomPayload;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.ChatStyle;
+import net.minecraft.util.EnumChatFormatting;
+import net.minecraft.util.IChatComponent;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ExploitCategory;
+import org.spongepowered.common.interfaces.network.IMixinC12PacketUpdateSign;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Validates packets on the network thread, before they are queued for the
+ * server thread, so that malicious packets don't cost any tick time.
+ */
+@Mixin(NetHandlerPlayServer.class)
+public abstract class MixinNetHandlerPlayServer {
+
+    private static final int MAX_ITEM_NAME_LENGTH = 32767;
+
+    @Shadow public EntityPlayerMP playerEntity;
+
+    @Shadow public abstract void kickPlayerFromServer(String reason);
+
+    @Inject(method = "processUpdateSign", at = @At("HEAD"))
+    private void onProcessUpdateSign(C12PacketUpdateSign packetIn, CallbackInfo ci) {
+        if (MinecraftServer.getServer().isCallingFromMinecraftThread() || !getExploits().isPreventSignExploit()) {
+            return;
+        }
+        final IChatComponent[] lines = packetIn.getLines();
+        for (IChatComponent line : lines) {
+            // Command click events are checked against the ops list on the server thread
+            if (line == null) {
+                return;
+            }
+            final ChatStyle chatstyle = line.getChatStyle();
+            if (chatstyle != null && chatstyle.getChatClickEvent() != null
+                    && chatstyle.getChatClickEvent().getAction() == ClickEvent.Action.RUN_COMMAND) {
+                return;
+            }
+        }
+        for (int i = 0; i < lines.length; ++i) {
+            lines[i] = new ChatComponentText(EnumChatFormatting.getTextWithoutFormattingCodes(lines[i].getUnformattedText()));
+        }
+        // Lets PacketUtil.processSignPacket skip the same work on the server thread
+        ((IMixinC12PacketUpdateSign) packetIn).setValidated(true);
+    }
+
+    @Inject(method = "processCreativeInventoryAction", at = @At("HEAD"), cancellable = true)
+    private void onProcessCreativeInventoryAction(C10PacketCreativeInventoryAction packetIn, CallbackInfo ci) {
+        final ItemStack itemstack = packetIn.getStack();
+        if (MinecraftServer.getServer().isCallingFromMinecraftThread() || itemstack == null || !itemstack.hasTagCompound()) {
+            return;
+        }
+        final ExploitCategory exploits = getExploits();
+        if (exploits.isPreventItemNameOverflow()) {
+            final int nameLength = itemstack.getDisplayName().length();
+            if (nameLength > MAX_ITEM_NAME_LENGTH) {
+                rejectPacket(ci, "You have been kicked for attempting to perform an itemstack name overflow exploit.",
+                        () -> SpongeHooks.logExploitItemNameOverflow(this.playerEntity, nameLength));
+                return;
+            }
+        }
+        final int maxNbtSize = exploits.getMaxCreativeItemStackNbtSize();
+        if (maxNbtSize > 0) {
+            final long nbtSize = getSize(itemstack);
+            if (nbtSize > maxNbtSize) {
+                rejectPacket(ci, "You have been kicked for attempting to perform an itemstack NBT overflow exploit.",
+                        () -> SpongeHooks.logExploitOversizedPacket(this.playerEntity,
+                                "a creative itemstack with " + nbtSize + " bytes of NBT (Max allowed size is " + maxNbtSize + ")"));
+            }
+        }
+    }
+
+    @Inject(method = "processVanilla250Packet", at = @At("HEAD"), cancellable = true)
+    private void onProcessVanilla250Packet(C17PacketCustomPayload packetIn, CallbackInfo ci) {
+        if (MinecraftServer.getServer().isCallingFromMinecraftThread()
+                || !("MC|BEdit".equals(packetIn.getChannelName()) || "MC|BSign".equals(packetIn.getChannelName()))) {
+            return;
+        }
+        final ExploitCategory exploits = getExploits();
+        if (!exploits.isPreventBookExploit()) {
+            return;
+        }
+        final ItemStack book;
+        try {
+            // Read from a duplicate, the buffer is read again on the server thread
+            book = new PacketBuffer(packetIn.getBufferData().duplicate()).readItemStackFromBuffer();
+        } catch (IOException | RuntimeException e) {
+            // Leave malformed books to the regular handling
+            return;
+        }
+        if (book == null || !book.hasTagCompound()) {
+            return;
+        }
+        final NBTTagList pages = book.getTagCompound().getTagList("pages", 8);
+        final boolean signing = "MC|BSign".equals(packetIn.getChannelName());
+        String problem = null;
+        if (pages.tagCount() > exploits.getMaxBookPages()) {
+            problem = "a book with " + pages.tagCount() + " pages (Max allowed is " + exploits.getMaxBookPages() + ")";
+        } else {
+            for (int i = 0; i < pages.tagCount(); i++) {
+                final int pageLength = getPageLength(pages.getStringTagAt(i), signing);
+                if (pageLength > exploits.getMaxBookPageLength()) {
+                    problem = "a book page with a length of " + pageLength + " (Max allowed is " + exploits.getMaxBookPageLength() + ")";
+                    break;
+                }
+            }
+        }
+        if (problem != null) {
+            final String description = problem;
+            // Cancelling skips the release of the payload done by the handler
+            packetIn.getBufferData().release();
+            rejectPacket(ci, "You have been kicked for attempting to perform a book exploit.",
+                    () -> SpongeHooks.logExploitOversizedPacket(this.playerEntity, description));
+        }
+    }
+
+    /**
+     * Gets the length of the text of a book page. The client sends the
+     * pages of a signed book as JSON text components, so their quotes and
+     * escapes don't count towards the length.
+     */
+    private static int getPageLength(String page, boolean signed) {
+        if (signed) {
+            try {
+                final IChatComponent component = IChatComponent.Serializer.jsonToComponent(page);
+                if (component != null) {
+                    return component.getUnformattedText().length();
+                }
+            } catch (RuntimeException e) {
+                // Not JSON, count the raw page
+            }
+        }
+        return page.length();
+    }
+
+    private static ExploitCategory getExploits() {
+        return SpongeImpl.getGlobalConfig().getConfig().getExploits();
+    }
+
+    private static long getSize(ItemStack itemstack) {
+        final CountingOutputStream out = new CountingOutputStream(ByteStreams.nullOutputStream());
+        try {
+            CompressedStreamTools.write(itemstack.getTagCompound(), new DataOutputStream(out));
+        } catch (IOException e) {
+            // Can't happen when writing to a null stream
+        }
+        return out.getCount();
+    }
+
+    /**
+     * Drops the packet before it is queued and kicks the player on the
+     * server thread.
+     */
+    private void rejectPacket(CallbackInfo ci, String reason, Runnable log) {
+        ci.cancel();
+        MinecraftServer.getServer().addScheduledTask(() -> {
+            log.run();
+            this.kickPlayerFromServer(reason);
+        });
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayerMP;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.entity.TrackingPlayerSet;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTrackerEntry;
+
+import java.util.Set;
+
+@Mixin(EntityTrackerEntry.class)
+public abstract class MixinEntityTrackerEntry_Spatial implements IMixinEntityTrackerEntry {
+
+    @Shadow public Entity trackedEntity;
+    @Shadow public int trackingDistanceThreshold;
+    @Shadow public int encodedPosX;
+    @Shadow public int encodedPosZ;
+    @Shadow private double lastTrackedEntityPosX;
+    @Shadow private double lastTrackedEntityPosY;
+    @Shadow private double lastTrackedEntityPosZ;
+    @Shadow private boolean firstUpdateDone;
+    @Shadow public Set<EntityPlayerMP> trackingPlayers = new TrackingPlayerSet((EntityTrackerEntry) (Object) this);
+
+    // The entry is discarded once it is untracked, remove it from the players tracking it
+    @Inject(method = "sendDestroyEntityPacketToTrackedPlayers", at = @At("RETURN"))
+    private void onSendDestroyEntityPacket(CallbackInfo ci) {
+        this.trackingPlayers.clear();
+    }
+
+    @Override
+    public boolean needsPlayerListUpdate() {
+        // Mirrors the check at the start of updatePlayerList
+        return !this.firstUpdateDone
+                || this.trackedEntity.getDistanceSq(this.lastTrackedEntityPosX, this.lastTrackedEntityPosY, this.lastTrackedEntityPosZ) > 16.0D;
+    }
+
+    @Override
+    public int getTrackingRange() {
+        return this.trackingDistanceThreshold;
+    }
+
+    @Override
+    public double getEncodedPosX() {
+        return this.encodedPosX / 32.0D;
+    }
+
+    @Override
+    public double getEncodedPosZ() {
+        return this.encodedPosZ / 32.0D;
+    }
+
+}
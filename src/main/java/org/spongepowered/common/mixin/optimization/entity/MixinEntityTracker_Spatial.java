@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import com.google.common.collect.Sets;
+import net.minecraft.entity.EntityTracker;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.item.EntityItemFrame;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.entity.ChunkBuckets;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTrackerEntry;
+import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Mixin(EntityTracker.class)
+public abstract class MixinEntityTracker_Spatial {
+
+    @Shadow @Final private WorldServer theWorld;
+    @Shadow private Set<EntityTrackerEntry> trackedEntities;
+
+    /**
+     * Only re-evaluates the players close to an entry, and the entries close
+     * to a player, instead of every entry against every player. Players that
+     * are currently tracking an entry are always re-evaluated so they can
+     * stop tracking it.
+     */
+    @Inject(method = "updateTrackedEntities", at = @At("HEAD"), cancellable = true)
+    private void onUpdateTrackedEntities(CallbackInfo ci) {
+        ci.cancel();
+        final List<EntityPlayer> worldPlayers = this.theWorld.playerEntities;
+        final ChunkBuckets<EntityPlayer> playerBuckets = new ChunkBuckets<>();
+        for (EntityPlayer player : worldPlayers) {
+            playerBuckets.add(player.posX, player.posZ, player);
+        }
+
+        final ChunkBuckets<EntityTrackerEntry> entryBuckets = new ChunkBuckets<>();
+        final List<EntityPlayerMP> movedPlayers = new ArrayList<>();
+        int maxTrackingRange = 0;
+        for (EntityTrackerEntry entry : this.trackedEntities) {
+            final IMixinEntityTrackerEntry mixinEntry = (IMixinEntityTrackerEntry) entry;
+            // Item frames send map data to every player passed in, keep the vanilla behavior for them
+            if (mixinEntry.needsPlayerListUpdate() && !(entry.trackedEntity instanceof EntityItemFrame)) {
+                final List<EntityPlayer> players = new ArrayList<>(entry.trackingPlayers);
+                playerBuckets.forEachInRange(mixinEntry.getEncodedPosX(), mixinEntry.getEncodedPosZ(), mixinEntry.getTrackingRange(), player -> {
+                    if (!entry.trackingPlayers.contains(player)) {
+                        players.add(player);
+                    }
+                });
+                entry.updatePlayerList(players);
+            } else {
+                entry.updatePlayerList(worldPlayers);
+            }
+
+            if (entry.playerEntitiesUpdated && entry.trackedEntity instanceof EntityPlayerMP) {
+                movedPlayers.add((EntityPlayerMP) entry.trackedEntity);
+            }
+            entryBuckets.add(mixinEntry.getEncodedPosX(), mixinEntry.getEncodedPosZ(), entry);
+            maxTrackingRange = Math.max(maxTrackingRange, mixinEntry.getTrackingRange());
+        }
+
+        for (EntityPlayerMP player : movedPlayers) {
+            final Set<EntityTrackerEntry> entries = Sets.newIdentityHashSet();
+            entries.addAll(((IMixinEntityPlayerMP) player).getTrackedEntries());
+            entryBuckets.forEachInRange(player.posX, player.posZ, maxTrackingRange, entries::add);
+            for (EntityTrackerEntry entry : entries) {
+                // Entries that were untracked may still be known to the player
+                if (entry.trackedEntity != player && this.trackedEntities.contains(entry)) {
+                    entry.updatePlayerEntity(player);
+                }
+            }
+        }
+    }
+
+}
@@ -28,12 +28,14 @@
 import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.LongCachedHashMap;
 
 @SuppressWarnings("rawtypes")
 @Mixin(ChunkProviderServer.class)
 public class MixinChunkProviderServer_Chunk_Cache {
 
-    @Shadow private LongHashMap id2ChunkMap = new LongCachedHashMap();
+    @Shadow private LongHashMap id2ChunkMap =
+            new LongCachedHashMap(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkMapCacheSize());
 
 }
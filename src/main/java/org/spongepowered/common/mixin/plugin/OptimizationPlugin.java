@@ -88,6 +88,10 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::isUseCachedChunkMap)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTracker_Spatial",
+                    OptimizationCategory::useSpatialEntityTracking)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTrackerEntry_Spatial",
+                    OptimizationCategory::useSpatialEntityTracking)
             .build();
 
 }
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.network.Packet;
+import org.spongepowered.common.SpongeImpl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records the bytes allocated by the server thread while processing each
+ * type of client packet, when enabled in the debug configuration.
+ */
+public final class PacketAllocationStats {
+
+    @Nullable private static final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+    private static final ConcurrentMap<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    private PacketAllocationStats() {
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread so far, or -1 if
+     * allocations aren't being recorded.
+     *
+     * @return The allocated bytes
+     */
+    static long getAllocatedBytes() {
+        if (threadBean == null || !SpongeImpl.getGlobalConfig().getConfig().getDebug().recordPacketAllocationStats()) {
+            return -1;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static void record(Packet<?> packet, long allocatedBefore) {
+        if (allocatedBefore < 0 || threadBean == null) {
+            return;
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+        entries.computeIfAbsent(packet.getClass(), key -> new Entry()).add(allocated);
+    }
+
+    public static Map<Class<?>, Entry> getEntries() {
+        return ImmutableMap.copyOf(entries);
+    }
+
+    public static void reset() {
+        entries.clear();
+    }
+
+    public static final class Entry {
+
+        private final LongAdder packets = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void add(long bytes) {
+            this.packets.increment();
+            this.allocatedBytes.add(bytes);
+        }
+
+        public long getPacketCount() {
+            return this.packets.sum();
+        }
+
+        public long getAllocatedBytes() {
+            return this.allocatedBytes.sum();
+        }
+
+        public double getAllocatedBytesPerPacket() {
+            final long packets = this.packets.sum();
+            return packets == 0 ? 0 : (double) this.allocatedBytes.sum() / packets;
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the packets written through batched connections and the flushes
+ * needed to send them, both in total and for the last server tick.
+ */
+public final class PacketBatchStats {
+
+    private static final LongAdder tickPackets = new LongAdder();
+    private static final LongAdder tickFlushes = new LongAdder();
+    private static final LongAdder totalPackets = new LongAdder();
+    private static final LongAdder totalFlushes = new LongAdder();
+    private static volatile long lastTickPackets;
+    private static volatile long lastTickFlushes;
+
+    private PacketBatchStats() {
+    }
+
+    public static void recordFlush(int packets) {
+        tickPackets.add(packets);
+        tickFlushes.increment();
+    }
+
+    /**
+     * Moves the counts of the current tick into the last tick and the totals.
+     */
+    public static void tick() {
+        final long packets = tickPackets.sumThenReset();
+        final long flushes = tickFlushes.sumThenReset();
+        lastTickPackets = packets;
+        lastTickFlushes = flushes;
+        totalPackets.add(packets);
+        totalFlushes.add(flushes);
+    }
+
+    public static long getLastTickPacketCount() {
+        return lastTickPackets;
+    }
+
+    public static long getLastTickFlushCount() {
+        return lastTickFlushes;
+    }
+
+    public static long getTotalPacketCount() {
+        return totalPackets.sum();
+    }
+
+    public static long getTotalFlushCount() {
+        return totalFlushes.sum();
+    }
+
+    public static double getPacketsPerFlush() {
+        final long flushes = totalFlushes.sum();
+        return flushes == 0 ? 0 : (double) totalPackets.sum() / flushes;
+    }
+
+    public static void reset() {
+        tickPackets.reset();
+        tickFlushes.reset();
+        totalPackets.reset();
+        totalFlushes.reset();
+        lastTickPackets = 0;
+        lastTickFlushes = 0;
+    }
+
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network;
 
+import com.google.common.collect.ImmutableSet;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.event.ClickEvent;
 import net.minecraft.item.ItemStack;
@@ -33,10 +34,13 @@
 import net.minecraft.network.play.client.C02PacketUseEntity;
 import net.minecraft.network.play.client.C07PacketPlayerDigging;
 import net.minecraft.network.play.client.C08PacketPlayerBlockPlacement;
+import net.minecraft.network.play.client.C0APacketAnimation;
 import net.minecraft.network.play.client.C0DPacketCloseWindow;
 import net.minecraft.network.play.client.C0EPacketClickWindow;
+import net.minecraft.network.play.client.C0FPacketConfirmTransaction;
 import net.minecraft.network.play.client.C10PacketCreativeInventoryAction;
 import net.minecraft.network.play.client.C12PacketUpdateSign;
+import net.minecraft.network.play.client.C13PacketPlayerAbilities;
 import net.minecraft.network.play.client.C16PacketClientStatus;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntitySign;
@@ -44,23 +48,37 @@
 import net.minecraft.util.ChatStyle;
 import net.minecraft.util.EnumChatFormatting;
 import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.event.cause.Cause;
-import org.spongepowered.api.event.cause.NamedCause;
-import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
+import org.spongepowered.common.interfaces.network.IMixinC12PacketUpdateSign;
 import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.StaticMixinHelper;
 
+import java.util.Set;
+
 public class PacketUtil {
 
+    // Packets that can't change the world or fire events, these skip the cause tracking
+    // done for all other packets. Movement packets aren't part of these, as moving can
+    // trigger block collisions such as pressure plates.
+    private static final Set<Class<?>> UNTRACKED_PACKETS = ImmutableSet.of(C0FPacketConfirmTransaction.class, C0APacketAnimation.class,
+            C13PacketPlayerAbilities.class);
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
         if (netHandler instanceof NetHandlerPlayServer) {
+            final long allocatedBytes = PacketAllocationStats.getAllocatedBytes();
+            if (UNTRACKED_PACKETS.contains(packetIn.getClass())) {
+                StaticMixinHelper.packetPlayer = ((NetHandlerPlayServer) netHandler).playerEntity;
+                packetIn.processPacket(netHandler);
+                StaticMixinHelper.packetPlayer = null;
+                PacketAllocationStats.record(packetIn, allocatedBytes);
+                return;
+            }
             StaticMixinHelper.packetPlayer = ((NetHandlerPlayServer) netHandler).playerEntity;
             EntityPlayerMP player = StaticMixinHelper.packetPlayer;
             IMixinWorld world = (IMixinWorld) StaticMixinHelper.packetPlayer.worldObj;
@@ -103,18 +121,16 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
             }*/
 
             if (packetIn instanceof C0EPacketClickWindow) {
-                spongePlayer.setPacketCursor(player.inventory.getItemStack() == null ? ItemStackSnapshot.NONE
-                       : ((org.spongepowered.api.item.inventory.ItemStack) player.inventory
-                               .getItemStack()).createSnapshot());
+                spongePlayer.capturePacketCursor();
             }
 
             if (player.getHeldItem() != null
                 && (packetIn instanceof C07PacketPlayerDigging || packetIn instanceof C08PacketPlayerBlockPlacement
                         || packetIn instanceof C02PacketUseEntity)) {
-                ((IMixinEntityPlayerMP) player).setPacketItem(ItemStack.copyItemStack(player.getHeldItem()));
+                spongePlayer.setPacketItem(ItemStack.copyItemStack(player.getHeldItem()));
             }
 
-            causeTracker.addCause(Cause.of(NamedCause.source(player)));
+            causeTracker.addCause(spongePlayer.getPacketCause());
             causeTracker.setCurrentNotifier((User) player);
             boolean captureBlocks = causeTracker.isCapturingBlocks();
             causeTracker.setCaptureBlocks(true);
@@ -128,6 +144,7 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
             if (packetIn instanceof C10PacketCreativeInventoryAction) {
                 ((IMixinNetHandlerPlayServer) netHandler).setIgnoreCreativeInventoryEvent(false);
             }
+            PacketAllocationStats.record(packetIn, allocatedBytes);
         } else { // client
             packetIn.processPacket(netHandler);
         }
@@ -139,12 +156,14 @@ private static boolean creativeCheck(Packet<?> packet) {
 
     public static void resetStaticData() {
         ((IMixinEntityPlayerMP) StaticMixinHelper.packetPlayer).setPacketItem(null);
-        ((IMixinEntityPlayerMP) StaticMixinHelper.packetPlayer).setPacketCursor(null);
+        ((IMixinEntityPlayerMP) StaticMixinHelper.packetPlayer).resetPacketCursor();
         StaticMixinHelper.packetPlayer = null;
     }
 
     public static boolean processSignPacket(C12PacketUpdateSign packetIn, CallbackInfo ci, TileEntitySign tileentitysign, EntityPlayerMP playerEntity) {
-        if (!SpongeImpl.getGlobalConfig().getConfig().getExploits().isPreventSignExploit()) {
+        // Signs without command click events are already stripped on the network thread
+        if (!SpongeImpl.getGlobalConfig().getConfig().getExploits().isPreventSignExploit()
+                || ((IMixinC12PacketUpdateSign) packetIn).isValidated()) {
             return true;
         }
         // Sign command exploit fix
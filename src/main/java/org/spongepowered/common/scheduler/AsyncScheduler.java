@@ -24,30 +24,34 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
+
 public class AsyncScheduler extends SchedulerBase {
 
+    // The resolution of the timer wheel, tasks are started when their
+    // deadline passed regardless of the resolution.
+    private static final long TIME_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(1);
+
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The executor of asynchronous tasks, created once the first task runs
+    // since the config may not be available when the scheduler is created.
+    @Nullable private volatile AsyncTaskExecutor executor;
 
     AsyncScheduler() {
-        super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
+        super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS, TIME_RESOLUTION);
 
         Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
@@ -55,12 +59,21 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
-        return this.executor;
+    AsyncTaskExecutor getTaskExecutor() {
+        AsyncTaskExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = AsyncTaskExecutor.create(SpongeImpl.getGlobalConfig().getConfig().getScheduler());
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
             recalibrateMinimumTimeout();
             this.runTick();
@@ -70,35 +83,13 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+            // Sleep until the earliest task in the timer wheel may become due,
+            // newly added tasks signal the condition.
+            long deadline = this.getNextTimeDeadline();
+            if (deadline == Long.MAX_VALUE) {
+                this.minimumTimeout = Long.MAX_VALUE;
+            } else {
+                this.minimumTimeout = Math.max(0L, deadline - System.nanoTime());
             }
         } finally {
             this.lock.unlock();
@@ -109,7 +100,11 @@ private void recalibrateMinimumTimeout() {
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // Tasks added after the timeout was calculated didn't see us
+            // waiting, don't miss their signal.
+            if (!this.hasAddedTasks()) {
+                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -119,18 +114,18 @@ protected void preTick() {
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+    protected void finallyPostTick() {
+        this.lock.unlock();
     }
 
     @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    protected Optional<PluginTaskMetrics> getTaskMetrics(PluginContainer plugin) {
+        return Optional.ofNullable(getTaskExecutor().getMetrics(plugin));
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+        getTaskExecutor().execute(task.getOwner(), task, runnable);
     }
 
     @Override
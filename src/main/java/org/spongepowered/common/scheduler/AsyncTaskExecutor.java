@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the asynchronous tasks of plugins on the configured executor, limiting
+ * the number of tasks of a single plugin that run at the same time and
+ * collecting {@link PluginTaskMetrics} for each plugin.
+ */
+final class AsyncTaskExecutor implements Executor {
+
+    private final ExecutorService executor;
+    private final int maxTasksPerPlugin;
+    private final Map<PluginContainer, PluginTasks> pluginTasks = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(ExecutorService executor, int maxTasksPerPlugin) {
+        this.executor = executor;
+        this.maxTasksPerPlugin = maxTasksPerPlugin;
+    }
+
+    /**
+     * Creates the executor as configured in the given category.
+     *
+     * @param category The scheduler configuration
+     * @return The executor
+     */
+    static AsyncTaskExecutor create(SchedulerCategory category) {
+        final ExecutorService executor;
+        switch (category.getAsyncExecutor()) {
+            case "work-stealing":
+                final int threads = category.getAsyncThreads();
+                executor = threads > 0 ? Executors.newWorkStealingPool(threads) : Executors.newWorkStealingPool();
+                break;
+            case "virtual":
+                executor = createVirtualThreadExecutor();
+                break;
+            default:
+                if (!"cached".equals(category.getAsyncExecutor())) {
+                    SpongeImpl.getLogger().warn("Unknown async executor '{}', using 'cached' instead", category.getAsyncExecutor());
+                }
+                executor = Executors.newCachedThreadPool();
+                break;
+        }
+        return new AsyncTaskExecutor(executor, category.getMaxAsyncTasksPerPlugin());
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            SpongeImpl.getLogger().warn("Virtual threads are not supported by this runtime, using the 'cached' async executor instead");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.executor.execute(command);
+    }
+
+    /**
+     * Runs a task owned by the given plugin, the task is queued if the
+     * plugin reached its concurrency limit.
+     *
+     * @param plugin The plugin owning the task
+     * @param runnable The task
+     */
+    void execute(PluginContainer plugin, Runnable runnable) {
+        execute(plugin, null, runnable);
+    }
+
+    /**
+     * Runs a task owned by the given plugin, the task is queued if the
+     * plugin reached its concurrency limit. A task is skipped if an earlier
+     * run with the same key is still queued, so that repeating tasks of a
+     * plugin at its limit don't pile up.
+     *
+     * @param plugin The plugin owning the task
+     * @param key The key of the repeated task, or null
+     * @param runnable The task
+     */
+    void execute(PluginContainer plugin, @Nullable Object key, Runnable runnable) {
+        this.pluginTasks.computeIfAbsent(plugin, PluginTasks::new).submit(key, runnable);
+    }
+
+    @Nullable
+    PluginTaskMetrics getMetrics(PluginContainer plugin) {
+        @Nullable final PluginTasks tasks = this.pluginTasks.get(plugin);
+        return tasks == null ? null : tasks.metrics;
+    }
+
+    Collection<PluginTaskMetrics> getMetrics() {
+        final ImmutableList.Builder<PluginTaskMetrics> metrics = ImmutableList.builder();
+        for (PluginTasks tasks : this.pluginTasks.values()) {
+            metrics.add(tasks.metrics);
+        }
+        return metrics.build();
+    }
+
+    private final class PluginTasks {
+
+        final PluginTaskMetrics metrics;
+        private final Queue<QueuedTask> queue = new ArrayDeque<>();
+        // The keys of the queued tasks
+        private final Set<Object> queuedKeys = new HashSet<>();
+
+        PluginTasks(PluginContainer plugin) {
+            this.metrics = new PluginTaskMetrics(plugin);
+        }
+
+        void submit(@Nullable Object key, Runnable runnable) {
+            final QueuedTask task = new QueuedTask(key, runnable);
+            synchronized (this) {
+                if (AsyncTaskExecutor.this.maxTasksPerPlugin > 0
+                        && this.metrics.running.get() >= AsyncTaskExecutor.this.maxTasksPerPlugin) {
+                    if (key != null && !this.queuedKeys.add(key)) {
+                        // An earlier run of the task is still waiting
+                        this.metrics.skipped.incrementAndGet();
+                        return;
+                    }
+                    this.queue.add(task);
+                    this.metrics.queued.incrementAndGet();
+                    return;
+                }
+                this.metrics.running.incrementAndGet();
+            }
+            dispatch(task);
+        }
+
+        private void dispatch(QueuedTask task) {
+            try {
+                AsyncTaskExecutor.this.executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                this.metrics.running.decrementAndGet();
+                throw e;
+            }
+        }
+
+        @Nullable
+        private QueuedTask pollNext() {
+            synchronized (this) {
+                final QueuedTask next = this.queue.poll();
+                if (next == null) {
+                    this.metrics.running.decrementAndGet();
+                } else {
+                    this.metrics.queued.decrementAndGet();
+                    if (next.key != null) {
+                        this.queuedKeys.remove(next.key);
+                    }
+                }
+                return next;
+            }
+        }
+
+        private void dispatchNext() {
+            final QueuedTask next = pollNext();
+            if (next == null) {
+                return;
+            }
+            try {
+                dispatch(next);
+            } catch (RejectedExecutionException e) {
+                // The executor is shutting down, nothing would ever run the
+                // waiting tasks, so drop them instead of keeping them queued
+                final int dropped;
+                synchronized (this) {
+                    dropped = this.queue.size();
+                    this.queue.clear();
+                    this.queuedKeys.clear();
+                    this.metrics.queued.addAndGet(-dropped);
+                }
+                SpongeImpl.getLogger().error("Could not run the queued asynchronous tasks of {}, dropped {} task(s)",
+                        this.metrics.getPlugin().getId(), dropped + 1, e);
+            }
+        }
+
+        private void run(QueuedTask task) {
+            final long start = System.nanoTime();
+            this.metrics.recordStart(start - task.submitted);
+            try {
+                task.runnable.run();
+            } finally {
+                this.metrics.recordCompletion(System.nanoTime() - start);
+                dispatchNext();
+            }
+        }
+
+    }
+
+    private static final class QueuedTask {
+
+        @Nullable final Object key;
+        final Runnable runnable;
+        final long submitted = System.nanoTime();
+
+        QueuedTask(@Nullable Object key, Runnable runnable) {
+            this.key = key;
+            this.runnable = runnable;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the asynchronous tasks of a plugin.
+ */
+public final class PluginTaskMetrics {
+
+    private final PluginContainer plugin;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger queued = new AtomicInteger();
+    final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong totalQueueLatency = new AtomicLong();
+    private final AtomicLong maxQueueLatency = new AtomicLong();
+    private final AtomicLong totalExecutionTime = new AtomicLong();
+
+    PluginTaskMetrics(PluginContainer plugin) {
+        this.plugin = plugin;
+    }
+
+    void recordStart(long queueLatency) {
+        this.totalQueueLatency.addAndGet(queueLatency);
+        this.maxQueueLatency.accumulateAndGet(queueLatency, Math::max);
+    }
+
+    void recordCompletion(long executionTime) {
+        this.totalExecutionTime.addAndGet(executionTime);
+        this.completed.incrementAndGet();
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the number of tasks that are currently executing.
+     *
+     * @return The number of running tasks
+     */
+    public int getRunningTasks() {
+        return this.running.get();
+    }
+
+    /**
+     * Gets the number of tasks that are due but wait for a free slot because
+     * the plugin reached its concurrency limit.
+     *
+     * @return The number of queued tasks
+     */
+    public int getQueuedTasks() {
+        return this.queued.get();
+    }
+
+    public long getCompletedTasks() {
+        return this.completed.get();
+    }
+
+    /**
+     * Gets the number of runs of repeating tasks that were skipped because
+     * an earlier run of the same task was still queued.
+     *
+     * @return The number of skipped runs
+     */
+    public long getSkippedTasks() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the average time between a task being handed to the executor and
+     * it starting to run.
+     *
+     * @param unit The unit of the returned time
+     * @return The average queue latency
+     */
+    public long getAverageQueueLatency(TimeUnit unit) {
+        final long completed = this.completed.get();
+        return completed == 0 ? 0 : unit.convert(this.totalQueueLatency.get() / completed, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxQueueLatency(TimeUnit unit) {
+        return unit.convert(this.maxQueueLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageExecutionTime(TimeUnit unit) {
+        final long completed = this.completed.get();
+        return completed == 0 ? 0 : unit.convert(this.totalExecutionTime.get() / completed, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -30,20 +30,36 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // The number of slots of each timer wheel, tasks further away than one
+    // revolution are visited once per revolution.
+    static final int TIMER_WHEEL_SLOTS = 512;
+
+    // All pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added since the last tick, moved into the timer wheels by the
+    // scheduler thread.
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    // The tasks that became due during the current tick
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
+    // The wheel of all the tasks whose timestamps are real time
+    private final TimerWheel timeWheel;
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
-    protected SchedulerBase(ScheduledTask.TaskSynchronicity type) {
+    protected SchedulerBase(ScheduledTask.TaskSynchronicity type, long timeResolution) {
         this.taskNameFmt = "%s-" + (type == ScheduledTask.TaskSynchronicity.SYNCHRONOUS ? "S" : "A") + "-%d";
+        this.timeWheel = new TimerWheel(System::nanoTime, timeResolution, TIMER_WHEEL_SLOTS);
     }
 
     protected String nextName(PluginContainer plugin) {
@@ -65,6 +81,47 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets the timer wheel the task should wait in for its next execution.
+     * Like {@link #getTimestamp(ScheduledTask)} this depends on whether the
+     * task waits for its delay or its interval.
+     *
+     * @param task The task
+     * @return The timer wheel for the task
+     */
+    protected TimerWheel getTimerWheel(ScheduledTask task) {
+        return this.timeWheel;
+    }
+
+    /**
+     * Advances all the timer wheels of this scheduler, collecting the tasks
+     * that are due or cancelled.
+     *
+     * @param expired The collection to add the expired tasks to
+     */
+    protected void advanceTimerWheels(List<ScheduledTask> expired) {
+        this.timeWheel.advance(expired);
+    }
+
+    /**
+     * Gets the earliest real time timestamp at which a task may become due.
+     *
+     * @return The next deadline, or {@link Long#MAX_VALUE} if there are no
+     *     real time tasks
+     */
+    protected long getNextTimeDeadline() {
+        return this.timeWheel.nextDeadline();
+    }
+
+    /**
+     * Gets whether tasks were added since the last call to {@link #runTick}.
+     *
+     * @return True if there are newly added tasks
+     */
+    protected boolean hasAddedTasks() {
+        return !this.addedTasks.isEmpty();
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -74,6 +131,7 @@ protected long getTimestamp(ScheduledTask task) {
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.addedTasks.add(task);
     }
 
     /**
@@ -86,22 +144,54 @@ protected void removeTask(ScheduledTask task) {
     }
 
     protected Optional<Task> getTask(UUID id) {
-        return Optional.<Task>ofNullable(this.taskMap.get(id));
+        ScheduledTask task = this.taskMap.get(id);
+        if (task == null || task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            return Optional.empty();
+        }
+        return Optional.<Task>of(task);
     }
 
     protected Set<Task> getScheduledTasks() {
-        synchronized (this.taskMap) {
-            return Sets.<Task>newHashSet(this.taskMap.values());
+        Set<Task> tasks = Sets.newHashSet();
+        for (ScheduledTask task : this.taskMap.values()) {
+            // Cancelled tasks are only removed once their slot in the timer
+            // wheel is visited
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                tasks.add(task);
+            }
         }
+        return tasks;
+    }
+
+    /**
+     * Gets the execution metrics of the tasks of the given plugin, if this
+     * scheduler collects them.
+     *
+     * @param plugin The plugin
+     * @return The metrics, if available
+     */
+    protected Optional<PluginTaskMetrics> getTaskMetrics(PluginContainer plugin) {
+        return Optional.empty();
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask task;
+            while ((task = this.addedTasks.poll()) != null) {
+                this.getTimerWheel(task).add(task);
+            }
+            // Tasks are collected before processing them since repeating
+            // tasks are added back into the wheels
+            this.advanceTimerWheels(this.dueTasks);
+            try {
+                this.dueTasks.forEach(this::processTask);
+            } finally {
+                this.dueTasks.clear();
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -128,7 +218,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that expired from its timer wheel.
      *
      * @param task The task to process
      */
@@ -139,29 +229,20 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a period of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        // The timer wheel only hands out tasks whose next execution timestamp
+        // passed, so start the task. Repeating tasks get a reset-timestamp
+        // each time they are set RUNNING and go back into a wheel. If the
+        // task has a period of 0 (zero) this task will not repeat, and is
+        // removed after we start it.
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        if (task.period == 0L || task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            // If task is one time shot or cancelled itself, remove it from
+            // the map.
+            this.removeTask(task);
+        } else {
+            this.getTimerWheel(task).add(task);
         }
     }
 
@@ -171,7 +252,7 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(() -> {
+        this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             try {
                 task.getConsumer().accept(task);
@@ -185,8 +266,9 @@ protected void startTask(final ScheduledTask task) {
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task the runnable belongs to
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -37,6 +37,7 @@
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
@@ -192,6 +193,30 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return submitAsyncTask(SpongeImpl.getPlugin(), callable);
+    }
+
+    /**
+     * Submits an asynchronous task owned by the given plugin, it counts
+     * towards the concurrency limit of that plugin like any scheduled task.
+     *
+     * @param plugin The plugin owning the task
+     * @param callable The task
+     * @param <T> The type of the result
+     * @return The future of the result
+     */
+    public <T> CompletableFuture<T> submitAsyncTask(PluginContainer plugin, Callable<T> callable) {
+        final AsyncTaskExecutor executor = this.asyncScheduler.getTaskExecutor();
+        return Functional.asyncFailableFuture(callable, runnable -> executor.execute(plugin, runnable));
+    }
+
+    /**
+     * Gets the metrics of the asynchronous tasks of every plugin that
+     * submitted one.
+     *
+     * @return The metrics of each plugin
+     */
+    public Collection<PluginTaskMetrics> getAsyncTaskMetrics() {
+        return this.asyncScheduler.getTaskExecutor().getMetrics();
     }
 }
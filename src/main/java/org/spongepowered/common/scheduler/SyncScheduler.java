@@ -24,13 +24,20 @@
  */
 package org.spongepowered.common.scheduler;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // The wheel of all the tasks whose timestamps are ticks
+    private final TimerWheel tickWheel = new TimerWheel(() -> this.counter, 1L, TIMER_WHEEL_SLOTS);
 
     SyncScheduler() {
-        super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
+        // Real time tasks can only run once per tick. TICK_DURATION_NS isn't
+        // initialized yet while the SpongeScheduler instance is created.
+        super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, TimeUnit.MILLISECONDS.toNanos(SpongeScheduler.TICK_DURATION_MS));
     }
 
     /**
@@ -62,7 +69,21 @@ protected long getTimestamp(ScheduledTask task) {
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected TimerWheel getTimerWheel(ScheduledTask task) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.delayIsTicks : task.intervalIsTicks) {
+            return this.tickWheel;
+        }
+        return super.getTimerWheel(task);
+    }
+
+    @Override
+    protected void advanceTimerWheels(List<ScheduledTask> expired) {
+        this.tickWheel.advance(expired);
+        super.advanceTimerWheels(expired);
+    }
+
+    @Override
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
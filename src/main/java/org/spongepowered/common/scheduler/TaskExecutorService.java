@@ -31,6 +31,7 @@
 import org.spongepowered.api.scheduler.Task;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Delayed;
@@ -134,6 +135,16 @@ public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDela
         return this.scheduleAtFixedRate(command, initialDelay, delay, unit);
     }
 
+    /**
+     * Gets the execution metrics of the tasks of the plugin owning this
+     * executor, only asynchronous executors collect them.
+     *
+     * @return The metrics, if available
+     */
+    public Optional<PluginTaskMetrics> getMetrics() {
+        return this.scheduler.getTaskMetrics(this.plugin);
+    }
+
     private Task.Builder createTask(Runnable command) {
         return this.taskBuilderProvider.get().execute(command);
     }
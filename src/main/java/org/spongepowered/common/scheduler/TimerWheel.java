@@ -0,0 +1,238 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed timer wheel holding the pending {@link ScheduledTask}s of a
+ * scheduler, so advancing it only visits the slots that passed since the last
+ * advance instead of every pending task.
+ *
+ * <p>Tasks are placed in the slot of their
+ * {@link ScheduledTask#nextExecutionTimestamp()}, tasks that are due in a
+ * later revolution of the wheel stay in their slot until their deadline is
+ * reached. Cancelled tasks are dropped the next time their slot is visited,
+ * which happens at least once per revolution.</p>
+ *
+ * <p>The earliest deadline of each slot and a bitmap of the slots holding
+ * tasks are kept up to date, so finding the next deadline only visits the
+ * occupied slots.</p>
+ *
+ * <p>This class is not thread safe, it should only be used by the thread
+ * ticking the scheduler.</p>
+ */
+final class TimerWheel {
+
+    private final LongSupplier clock;
+    private final long resolution;
+    private final List<ScheduledTask>[] slots;
+    // The earliest deadline of the tasks in each slot
+    private final long[] slotDeadlines;
+    // The slots holding at least one task, one bit per slot
+    private final long[] occupied;
+    private final int mask;
+    private long currentSlot;
+    private int size;
+
+    /**
+     * Creates a new timer wheel.
+     *
+     * @param clock The clock providing the timestamps the deadlines of the
+     *     tasks are compared against
+     * @param resolution The amount of time covered by one slot
+     * @param slotCount The number of slots, must be a power of two
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(LongSupplier clock, long resolution, int slotCount) {
+        checkArgument(resolution > 0, "resolution must be positive");
+        checkArgument(slotCount > 0 && Integer.bitCount(slotCount) == 1, "slotCount must be a power of two");
+        this.clock = clock;
+        this.resolution = resolution;
+        this.slots = new List[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            this.slots[i] = new ArrayList<>();
+        }
+        this.slotDeadlines = new long[slotCount];
+        Arrays.fill(this.slotDeadlines, Long.MAX_VALUE);
+        this.occupied = new long[(slotCount + 63) >>> 6];
+        this.mask = slotCount - 1;
+        this.currentSlot = Math.floorDiv(clock.getAsLong(), resolution);
+    }
+
+    /**
+     * Gets the current timestamp of the clock of this wheel.
+     *
+     * @return The current timestamp
+     */
+    long now() {
+        return this.clock.getAsLong();
+    }
+
+    /**
+     * Gets the number of tasks in this wheel, including cancelled tasks
+     * that have not been dropped yet.
+     *
+     * @return The number of tasks
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds the task to the slot of its next execution timestamp. Tasks that
+     * are already due are added to the current slot.
+     *
+     * @param task The task to add
+     */
+    void add(ScheduledTask task) {
+        final long deadline = task.nextExecutionTimestamp();
+        final long slot = Math.max(Math.floorDiv(deadline, this.resolution), this.currentSlot);
+        final int index = (int) (slot & this.mask);
+        this.slots[index].add(task);
+        this.slotDeadlines[index] = Math.min(this.slotDeadlines[index], deadline);
+        this.occupied[index >>> 6] |= 1L << index;
+        this.size++;
+    }
+
+    /**
+     * Advances the wheel to the current timestamp of the clock, removing all
+     * the tasks that are due or cancelled and adding them to the given
+     * collection.
+     *
+     * @param expired The collection to add the expired tasks to
+     */
+    void advance(Collection<ScheduledTask> expired) {
+        if (this.size == 0) {
+            this.currentSlot = Math.max(this.currentSlot, Math.floorDiv(now(), this.resolution));
+            return;
+        }
+        final long now = now();
+        final long targetSlot = Math.floorDiv(now, this.resolution);
+        // The current slot is visited again, it may contain tasks that were
+        // not due during the last advance. Visiting more slots than the
+        // wheel has would only visit the same slots again.
+        final long lastSlot = Math.min(targetSlot, this.currentSlot + this.mask);
+        for (long slot = this.currentSlot; slot <= lastSlot; slot++) {
+            final int index = (int) (slot & this.mask);
+            if ((this.occupied[index >>> 6] & (1L << index)) != 0) {
+                expire(index, now, expired);
+            }
+        }
+        this.currentSlot = Math.max(this.currentSlot, targetSlot);
+    }
+
+    private void expire(int index, long now, Collection<ScheduledTask> expired) {
+        final List<ScheduledTask> tasks = this.slots[index];
+        long slotDeadline = Long.MAX_VALUE;
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            final ScheduledTask task = tasks.get(i);
+            final long deadline = task.nextExecutionTimestamp();
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED || deadline <= now) {
+                // Swap with the last task to avoid shifting the list
+                final int last = tasks.size() - 1;
+                tasks.set(i, tasks.get(last));
+                tasks.remove(last);
+                this.size--;
+                expired.add(task);
+            } else {
+                slotDeadline = Math.min(slotDeadline, deadline);
+            }
+        }
+        this.slotDeadlines[index] = slotDeadline;
+        if (tasks.isEmpty()) {
+            this.occupied[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Gets the earliest timestamp at which a task in this wheel may become
+     * due, only the slots of the next revolution are considered.
+     *
+     * @return The next deadline, or {@link Long#MAX_VALUE} if the wheel
+     *     is empty
+     */
+    long nextDeadline() {
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        // Visit the occupied slots of the next revolution in order, starting
+        // at the current slot and wrapping around the end of the wheel
+        final int start = (int) (this.currentSlot & this.mask);
+        for (int index = nextOccupied(start); index != -1; index = nextOccupied(index + 1)) {
+            final long deadline = dueDeadline(index, this.currentSlot + index - start);
+            if (deadline != Long.MAX_VALUE) {
+                return deadline;
+            }
+        }
+        for (int index = nextOccupied(0); index != -1 && index < start; index = nextOccupied(index + 1)) {
+            final long deadline = dueDeadline(index, this.currentSlot + this.mask + 1 + index - start);
+            if (deadline != Long.MAX_VALUE) {
+                return deadline;
+            }
+        }
+        // Only tasks of later revolutions, wake up once this one passed
+        return (this.currentSlot + this.mask + 1) * this.resolution;
+    }
+
+    /**
+     * Gets the earliest deadline of the slot at the given index if it is due
+     * in the given slot. The tasks of a slot that are due in a later
+     * revolution have a later deadline than the ones of this revolution, so
+     * the earliest deadline of the slot tells whether any task is due.
+     */
+    private long dueDeadline(int index, long slot) {
+        final long deadline = this.slotDeadlines[index];
+        return Math.floorDiv(deadline, this.resolution) <= slot ? deadline : Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the index of the first occupied slot at or after the given index.
+     *
+     * @param from The index to start searching at
+     * @return The index of the slot, or -1 if there is none
+     */
+    private int nextOccupied(int from) {
+        if (from > this.mask) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = this.occupied[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == this.occupied.length) {
+                return -1;
+            }
+            bits = this.occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+}
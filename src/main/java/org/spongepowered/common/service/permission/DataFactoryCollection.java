@@ -27,7 +27,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import org.spongepowered.api.command.CommandSource;
-import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
@@ -36,7 +35,6 @@
 import org.spongepowered.common.service.permission.base.SpongeSubjectCollection;
 
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -58,10 +56,16 @@ protected DataFactoryCollection(String identifier, SpongePermissionService servi
     @Override
     public Subject get(String identifier) {
         checkNotNull(identifier, "identifier");
-        if (!this.subjects.containsKey(identifier)) {
-            this.subjects.putIfAbsent(identifier, new DataFactorySubject(identifier, this.dataFactory.apply(identifier)));
+        SpongeSubject subject = this.subjects.get(identifier);
+        if (subject == null) {
+            final SpongeSubject created = new DataFactorySubject(identifier, this.dataFactory.apply(identifier));
+            subject = this.subjects.putIfAbsent(identifier, created);
+            if (subject == null) {
+                indexSubject(created);
+                subject = created;
+            }
         }
-        return this.subjects.get(identifier);
+        return subject;
     }
 
     @Override
@@ -105,8 +109,8 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected Tristate resolvePermissionValue(String permission) {
+            Tristate ret = super.resolvePermissionValue(permission);
             if (ret == Tristate.UNDEFINED) {
                 ret = getDataPermissionValue(DataFactoryCollection.this.service.getDefaultData(), permission);
             }
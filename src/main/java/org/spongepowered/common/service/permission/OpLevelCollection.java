@@ -54,6 +54,7 @@ public OpLevelCollection(SpongePermissionService service) {
             build.put("op_" + i, new OpLevelSubject(service, i)); // TODO: Add subject data
         }
         this.levels = build.build();
+        this.levels.values().forEach(this::indexSubject);
     }
 
     @Override
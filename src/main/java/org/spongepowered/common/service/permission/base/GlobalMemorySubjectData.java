@@ -35,8 +35,12 @@
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    @Nullable private Runnable permissionListener;
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      *
@@ -57,7 +61,12 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        return permissionsChanged(super.setPermission(contexts, permission, value));
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        return permissionsChanged(super.clearPermissions());
     }
 
     @Override
@@ -65,7 +74,7 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        return permissionsChanged(super.clearPermissions(contexts));
     }
 
     @Override
@@ -73,7 +82,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        return invalidate(super.addParent(contexts, parent));
     }
 
     @Override
@@ -81,7 +90,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        return invalidate(super.removeParent(contexts, parent));
+    }
+
+    @Override
+    public boolean clearParents() {
+        return invalidate(super.clearParents());
     }
 
     @Override
@@ -89,6 +103,51 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        return invalidate(super.clearParents(contexts));
+    }
+
+    /**
+     * Sets a permission in the global context without invalidating the
+     * resolved permissions of all subjects. Only for filling the data of a
+     * new subject that has not resolved any permissions and is nobody's
+     * parent yet.
+     *
+     * @param permission The permission
+     * @param value The value
+     * @return Whether the data was changed
+     */
+    public boolean setInitialPermission(String permission, Tristate value) {
+        return super.setPermission(GLOBAL_CONTEXT, permission, value);
+    }
+
+    /**
+     * Sets the listener that is notified after the permissions of this data
+     * have changed.
+     *
+     * @param listener The listener, or null to remove it
+     */
+    void setPermissionListener(@Nullable Runnable listener) {
+        this.permissionListener = listener;
+    }
+
+    private boolean permissionsChanged(boolean changed) {
+        if (invalidate(changed) && this.permissionListener != null) {
+            this.permissionListener.run();
+        }
+        return changed;
+    }
+
+    /**
+     * Invalidates the resolved permissions of all subjects if the data was
+     * changed.
+     *
+     * @param changed Whether the data was changed
+     * @return Whether the data was changed
+     */
+    protected static boolean invalidate(boolean changed) {
+        if (changed) {
+            ResolvedPermissionCache.invalidateAll();
+        }
+        return changed;
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import org.spongepowered.api.util.Tristate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caches the resolved permission values of a single {@link SpongeSubject}.
+ *
+ * <p>A resolved value depends on the subject data of the subject, of all of
+ * its ancestors, on the default data and on the ops list, so every cache is
+ * invalidated through a shared revision whenever any of these change.
+ * Changes are rare compared to permission checks, which makes a shared
+ * revision cheaper than tracking the dependencies of each subject.</p>
+ */
+public final class ResolvedPermissionCache {
+
+    private static final AtomicInteger revision = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private final AtomicReference<Values> values = new AtomicReference<>(new Values(revision.get()));
+
+    /**
+     * Invalidates the resolved values of all subjects.
+     */
+    public static void invalidateAll() {
+        revision.incrementAndGet();
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static double getHitRate() {
+        final long hitCount = hits.sum();
+        final long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Gets the resolved value of the permission, resolving and caching it
+     * if it isn't known for the current revision.
+     *
+     * @param permission The permission
+     * @param resolver The function resolving uncached permissions
+     * @return The resolved value
+     */
+    public Tristate get(String permission, Function<String, Tristate> resolver) {
+        final int currentRevision = revision.get();
+        Values values = this.values.get();
+        if (values.revision != currentRevision) {
+            // Values of an old revision are replaced rather than cleared, so a
+            // value resolved against outdated data can only end up in those
+            final Values newValues = new Values(currentRevision);
+            values = this.values.compareAndSet(values, newValues) ? newValues : this.values.get();
+        }
+        Tristate value = values.values.get(permission);
+        if (value != null && values.revision == currentRevision) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = resolver.apply(permission);
+        // Don't cache values that may have been resolved against outdated data
+        if (values.revision == currentRevision && revision.get() == currentRevision) {
+            values.values.put(permission, value);
+        }
+        return value;
+    }
+
+    private static final class Values {
+
+        final int revision;
+        final ConcurrentMap<String, Tristate> values = new ConcurrentHashMap<>();
+
+        Values(int revision) {
+            this.revision = revision;
+        }
+
+    }
+
+}
@@ -35,6 +35,8 @@
 
 public abstract class SpongeSubject implements Subject {
 
+    private final ResolvedPermissionCache permissionCache = new ResolvedPermissionCache();
+
     @Override
     public SubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -50,6 +52,17 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        // Permissions are only resolved in the global context, so the contexts don't take part in the cache key
+        return this.permissionCache.get(permission, this::resolvePermissionValue);
+    }
+
+    /**
+     * Resolves the value of a permission that isn't cached yet.
+     *
+     * @param permission The permission
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
@@ -24,18 +24,32 @@
  */
 package org.spongepowered.common.service.permission.base;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 public abstract class SpongeSubjectCollection implements SubjectCollection {
     private final String identifier;
+    // Inverted index of the permission nodes explicitly set by the indexed subjects
+    private final ConcurrentMap<String, Set<String>> subjectsByNode = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> nodesBySubject = new ConcurrentHashMap<>();
 
     protected SpongeSubjectCollection(String identifier) {
         this.identifier = identifier;
@@ -46,23 +60,92 @@ public String getIdentifier() {
         return this.identifier;
     }
 
-    @Override
-    public Map<Subject, Boolean> getAllWithPermission(String permission) {
-        final Map<Subject, Boolean> ret = new HashMap<>();
-        for (Subject subj : getAllSubjects()) {
-            Tristate state = subj.getPermissionValue(subj.getActiveContexts(), permission);
-            if (state != Tristate.UNDEFINED) {
-                ret.put(subj, state.asBoolean());
+    /**
+     * Adds a subject of this collection to the permission node index, which
+     * is kept up to date as the permissions of the subject change.
+     *
+     * <p>Only subjects backed by a {@link GlobalMemorySubjectData} can be
+     * indexed, other subjects are always fully resolved.</p>
+     *
+     * @param subject The subject
+     */
+    protected void indexSubject(SpongeSubject subject) {
+        final MemorySubjectData data = subject.getSubjectData();
+        if (data instanceof GlobalMemorySubjectData) {
+            ((GlobalMemorySubjectData) data).setPermissionListener(() -> updateIndex(subject));
+            updateIndex(subject);
+        }
+    }
+
+    private synchronized void updateIndex(Subject subject) {
+        final String subjectIdentifier = subject.getIdentifier();
+        final Set<String> nodes = new HashSet<>();
+        for (String node : subject.getSubjectData().getPermissions(SubjectData.GLOBAL_CONTEXT).keySet()) {
+            nodes.add(node.toLowerCase(Locale.ROOT));
+        }
+        final Set<String> previous = this.nodesBySubject.put(subjectIdentifier, ImmutableSet.copyOf(nodes));
+        if (previous != null) {
+            for (String node : previous) {
+                if (!nodes.contains(node)) {
+                    final Set<String> subjects = this.subjectsByNode.get(node);
+                    subjects.remove(subjectIdentifier);
+                    if (subjects.isEmpty()) {
+                        this.subjectsByNode.remove(node);
+                    }
+                }
             }
         }
-        return Collections.unmodifiableMap(ret);
+        for (String node : nodes) {
+            this.subjectsByNode.computeIfAbsent(node, key -> Sets.newConcurrentHashSet()).add(subjectIdentifier);
+        }
+    }
+
+    /**
+     * Gets the identifiers of the indexed subjects that explicitly set the
+     * permission or one of the nodes it inherits from.
+     */
+    private Set<String> getSubjectsSetting(String permission) {
+        final String node = permission.toLowerCase(Locale.ROOT);
+        Set<String> ret = Collections.emptySet();
+        int end = -1;
+        do {
+            end = node.indexOf('.', end + 1);
+            final Set<String> subjects = this.subjectsByNode.get(end == -1 ? node : node.substring(0, end));
+            if (subjects != null) {
+                if (ret.isEmpty()) {
+                    ret = new HashSet<>();
+                }
+                ret.addAll(subjects);
+            }
+        } while (end != -1);
+        return ret;
+    }
+
+    @Override
+    public Map<Subject, Boolean> getAllWithPermission(String permission) {
+        return findAllWithPermission(null, permission);
     }
 
     @Override
     public Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission) {
+        return findAllWithPermission(contexts, permission);
+    }
+
+    private Map<Subject, Boolean> findAllWithPermission(@Nullable Set<Context> contexts, String permission) {
+        final Set<String> explicit = getSubjectsSetting(permission);
+        // Indexed subjects that don't set the permission themselves can only inherit it, so
+        // subjects of the same type with the same parents resolve to the same value
+        final Map<Object, Tristate> inherited = new HashMap<>();
         final Map<Subject, Boolean> ret = new HashMap<>();
         for (Subject subj : getAllSubjects()) {
-            Tristate state = subj.getPermissionValue(contexts, permission);
+            final Set<Context> subjContexts = contexts == null ? subj.getActiveContexts() : contexts;
+            final Tristate state;
+            if (subj instanceof SpongeSubject && this.nodesBySubject.containsKey(subj.getIdentifier()) && !explicit.contains(subj.getIdentifier())) {
+                final Object key = Arrays.asList(subj.getClass(), subj.getSubjectData().getParents(SubjectData.GLOBAL_CONTEXT));
+                state = inherited.computeIfAbsent(key, k -> subj.getPermissionValue(subjContexts, permission));
+            } else {
+                state = subj.getPermissionValue(subjContexts, permission);
+            }
             if (state != Tristate.UNDEFINED) {
                 ret.put(subj, state.asBoolean());
             }
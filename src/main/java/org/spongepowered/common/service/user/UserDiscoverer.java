@@ -26,7 +26,6 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.server.MinecraftServer;
@@ -47,21 +46,24 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Locale;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 class UserDiscoverer {
 
+    private static final int USER_CACHE_LIMIT = 10000;
+
     private static final Cache<UUID, User> userCache = CacheBuilder.newBuilder()
             .expireAfterAccess(1, TimeUnit.DAYS)
+            .maximumSize(USER_CACHE_LIMIT)
             .build();
 
     static User create(GameProfile profile) {
         User user = (User) new SpongeUser(profile);
         userCache.put(profile.getId(), user);
+        UserIndex.addProfile(profile);
         return user;
     }
 
@@ -101,11 +103,16 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
     }
 
     static User findByUsername(String username) {
+        Optional<org.spongepowered.api.profile.GameProfile> indexed = UserIndex.getByName(username);
+        if (indexed.isPresent()) {
+            return findByProfile(indexed.get());
+        }
+        // Fall back to the profile cache for names that aren't indexed yet
         PlayerProfileCache cache = MinecraftServer.getServer().getPlayerProfileCache();
-        HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
+        if (cache.getUsernames().contains(username.toLowerCase(Locale.ROOT))) {
             GameProfile profile = cache.getGameProfileForUsername(username);
             if (profile != null) {
+                UserIndex.addProfile(profile);
                 return findByProfile((org.spongepowered.api.profile.GameProfile) profile);
             }
         }
@@ -113,42 +120,11 @@ static User findByUsername(String username) {
     }
 
     static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
-        Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
-
-        // Add all cached profiles
-        for (User user : userCache.asMap().values()) {
-            profiles.add(user.getProfile());
-        }
-
-        // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // Some mods store other files in the 'playerdata' folder, so
-            // we need to ensure that the filename is a valid UUID
-            if (playerUuid.split("-").length != 5) {
-                continue;
-            }
-
-            GameProfile profile = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(UUID.fromString(playerUuid));
-            if (profile != null) {
-                profiles.add((org.spongepowered.api.profile.GameProfile) profile);
-            }
-        }
-
-        // Add all whitelisted users
-        UserListWhitelist whiteList = MinecraftServer.getServer().getConfigurationManager().getWhitelistedPlayers();
-        for (UserListWhitelistEntry entry : whiteList.getValues().values()) {
-            profiles.add((org.spongepowered.api.profile.GameProfile) entry.value);
-        }
+        return UserIndex.getAll();
+    }
 
-        // Add all banned users
-        UserListBans banList = MinecraftServer.getServer().getConfigurationManager().getBannedPlayers();
-        for (UserListBansEntry entry : banList.getValues().values()) {
-            profiles.add((org.spongepowered.api.profile.GameProfile) entry.value);
-        }
-        return profiles;
+    static Collection<org.spongepowered.api.profile.GameProfile> matchProfiles(String namePrefix) {
+        return UserIndex.getByNamePrefix(namePrefix);
     }
 
     static boolean delete(UUID uniqueId) {
@@ -159,6 +135,10 @@ static boolean delete(UUID uniqueId) {
         boolean success = deleteStoredPlayerData(uniqueId);
         success = success && deleteWhitelistEntry(uniqueId);
         success = success && deleteBanlistEntry(uniqueId);
+        if (success) {
+            userCache.invalidate(uniqueId);
+            UserIndex.removeProfile(uniqueId);
+        }
         return success;
     }
 
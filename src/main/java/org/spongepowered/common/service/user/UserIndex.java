@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerProfileCache;
+import net.minecraft.server.management.ServerConfigurationManager;
+import net.minecraft.server.management.UserListBansEntry;
+import net.minecraft.server.management.UserListWhitelistEntry;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.common.world.DimensionManager;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of every {@link GameProfile} known to the server, by unique id
+ * and by lower case name.
+ *
+ * <p>The index is populated from the stored player data, the whitelist and
+ * the ban list the first time it is used, and is afterwards kept up to date
+ * as players log in, player data is written, users are created and profiles
+ * are added to or removed from the whitelist or ban list.</p>
+ */
+public final class UserIndex {
+
+    private static final Map<UUID, GameProfile> profiles = new ConcurrentHashMap<>();
+    private static final ConcurrentNavigableMap<String, UUID> names = new ConcurrentSkipListMap<>();
+    private static volatile boolean loaded;
+
+    private UserIndex() {
+    }
+
+    /**
+     * Adds or updates a profile in the index. A profile without a name
+     * doesn't replace a known profile with the same unique id.
+     *
+     * @param profile The profile
+     */
+    public static void addProfile(GameProfile profile) {
+        put(profile, true);
+    }
+
+    public static void addProfile(com.mojang.authlib.GameProfile profile) {
+        put((GameProfile) profile, true);
+    }
+
+    /**
+     * Clears the index, it will be populated again when it is used next.
+     */
+    public static void clear() {
+        synchronized (profiles) {
+            loaded = false;
+            profiles.clear();
+            names.clear();
+        }
+    }
+
+    static void removeProfile(UUID uniqueId) {
+        @Nullable final GameProfile profile = profiles.remove(uniqueId);
+        if (profile != null && profile.getName().isPresent()) {
+            names.remove(toKey(profile.getName().get()), uniqueId);
+        }
+    }
+
+    /**
+     * Removes a profile that was removed from the whitelist or ban list,
+     * unless the player is online or still has stored player data, a
+     * whitelist entry or a ban.
+     *
+     * @param profile The removed profile
+     */
+    public static void removeUnreferencedProfile(com.mojang.authlib.GameProfile profile) {
+        if (!loaded) {
+            // The lists are read when the index is loaded
+            return;
+        }
+        synchronized (profiles) {
+            final MinecraftServer server = MinecraftServer.getServer();
+            final ServerConfigurationManager configurationManager = server == null ? null : server.getConfigurationManager();
+            if (configurationManager == null || DimensionManager.getWorldFromDimId(0) == null) {
+                return;
+            }
+            final UUID uniqueId = profile.getId();
+            final com.mojang.authlib.GameProfile key = new com.mojang.authlib.GameProfile(uniqueId, "");
+            final SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
+            if (configurationManager.getPlayerByUUID(uniqueId) != null
+                    || configurationManager.getWhitelistedPlayers().getEntry(key) != null
+                    || configurationManager.getBannedPlayers().getEntry(key) != null
+                    || new File(saveHandler.playersDirectory, uniqueId.toString() + ".dat").exists()) {
+                return;
+            }
+            removeProfile(uniqueId);
+        }
+    }
+
+    static Optional<GameProfile> getByName(String name) {
+        load();
+        @Nullable final UUID uniqueId = names.get(toKey(name));
+        return uniqueId == null ? Optional.empty() : Optional.ofNullable(profiles.get(uniqueId));
+    }
+
+    static Collection<GameProfile> getAll() {
+        load();
+        return ImmutableList.copyOf(profiles.values());
+    }
+
+    static Collection<GameProfile> getByNamePrefix(String prefix) {
+        load();
+        final String key = toKey(prefix);
+        final ImmutableList.Builder<GameProfile> matching = ImmutableList.builder();
+        for (UUID uniqueId : names.subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+            @Nullable final GameProfile profile = profiles.get(uniqueId);
+            if (profile != null) {
+                matching.add(profile);
+            }
+        }
+        return matching.build();
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static void put(GameProfile profile, boolean replace) {
+        final UUID uniqueId = profile.getUniqueId();
+        if (!profile.getName().isPresent()) {
+            profiles.putIfAbsent(uniqueId, profile);
+            return;
+        }
+        @Nullable final GameProfile previous = replace ? profiles.put(uniqueId, profile) : profiles.putIfAbsent(uniqueId, profile);
+        if (!replace && previous != null) {
+            return;
+        }
+        if (previous != null && previous.getName().isPresent() && !previous.getName().equals(profile.getName())) {
+            // The player changed their name
+            names.remove(toKey(previous.getName().get()), uniqueId);
+        }
+        names.put(toKey(profile.getName().get()), uniqueId);
+    }
+
+    private static void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (profiles) {
+            if (loaded) {
+                return;
+            }
+            final MinecraftServer server = MinecraftServer.getServer();
+            if (server == null || server.getConfigurationManager() == null || DimensionManager.getWorldFromDimId(0) == null) {
+                // Nothing to load from yet
+                return;
+            }
+
+            // Add all known profiles from the data files
+            final PlayerProfileCache profileCache = server.getPlayerProfileCache();
+            final SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
+            for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+                // Some mods store other files in the 'playerdata' folder, so
+                // we need to ensure that the filename is a valid UUID
+                if (playerUuid.split("-").length != 5) {
+                    continue;
+                }
+                final com.mojang.authlib.GameProfile profile = profileCache.getProfileByUUID(UUID.fromString(playerUuid));
+                if (profile != null) {
+                    put((GameProfile) profile, false);
+                }
+            }
+
+            // Add all whitelisted users
+            for (UserListWhitelistEntry entry : server.getConfigurationManager().getWhitelistedPlayers().getValues().values()) {
+                put((GameProfile) entry.value, false);
+            }
+
+            // Add all banned users
+            for (UserListBansEntry entry : server.getConfigurationManager().getBannedPlayers().getValues().values()) {
+                put((GameProfile) entry.value, false);
+            }
+            loaded = true;
+        }
+    }
+
+}
@@ -27,24 +27,104 @@
 import net.minecraft.util.LongHashMap;
 import org.spongepowered.common.interfaces.IMixinCachable;
 
+/**
+ * A {@link LongHashMap} keyed by chunk coordinates that caches recently
+ * retrieved values in a small direct mapped cache.
+ *
+ * <p>The slot of a key is made of the low bits of its x and z coordinates, so
+ * a square of neighbouring chunks never evicts each other. Cached keys are
+ * stored alongside the values, they don't depend on
+ * {@link IMixinCachable#getCacheKey()}.</p>
+ */
 public class LongCachedHashMap<V extends IMixinCachable> extends LongHashMap<V> {
 
-    private V lastRetrievedValue = null;
+    public static final int DEFAULT_CACHE_SIZE = 16;
+
+    private final long[] cachedKeys;
+    private final Object[] cachedValues;
+    private final int xMask;
+    private final int zMask;
+    private final int zShift;
+    private long hits;
+    private long misses;
+
+    public LongCachedHashMap() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new map with the given number of cache slots, rounded up to
+     * the next power of two.
+     *
+     * @param cacheSize The number of cache slots
+     */
+    public LongCachedHashMap(int cacheSize) {
+        final int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, cacheSize) - 1);
+        final int xBits = (bits + 1) / 2;
+        this.cachedKeys = new long[1 << bits];
+        this.cachedValues = new Object[1 << bits];
+        this.xMask = (1 << xBits) - 1;
+        this.zMask = (1 << (bits - xBits)) - 1;
+        this.zShift = xBits;
+    }
+
+    private int getSlot(long key) {
+        // The x coordinate is stored in the lower, the z coordinate in the upper half of the key
+        return ((int) key & this.xMask) | (((int) (key >>> 32) & this.zMask) << this.zShift);
+    }
 
+    @SuppressWarnings("unchecked")
     @Override
     public V getValueByKey(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            return this.lastRetrievedValue;
+        final int slot = getSlot(key);
+        final Object cached = this.cachedValues[slot];
+        if (cached != null && this.cachedKeys[slot] == key) {
+            this.hits++;
+            return (V) cached;
         }
-        return this.lastRetrievedValue = super.getValueByKey(key);
+        this.misses++;
+        final V value = super.getValueByKey(key);
+        if (value != null) {
+            this.cachedKeys[slot] = key;
+            this.cachedValues[slot] = value;
+        }
+        return value;
     }
 
+    @Override
+    public boolean containsItem(long key) {
+        final int slot = getSlot(key);
+        return this.cachedValues[slot] != null && this.cachedKeys[slot] == key || super.containsItem(key);
+    }
+
+    @Override
+    public void add(long key, V value) {
+        final int slot = getSlot(key);
+        if (this.cachedValues[slot] != null && this.cachedKeys[slot] == key) {
+            this.cachedValues[slot] = value;
+        }
+        super.add(key, value);
+    }
 
     @Override
     public V remove(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            this.lastRetrievedValue = null;
+        final int slot = getSlot(key);
+        if (this.cachedValues[slot] != null && this.cachedKeys[slot] == key) {
+            this.cachedValues[slot] = null;
         }
         return super.remove(key);
     }
+
+    public int getCacheSize() {
+        return this.cachedValues.length;
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
 }
@@ -65,7 +65,7 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
-import org.spongepowered.common.config.category.LoggingCategory;
+import org.spongepowered.common.config.WorldSettings;
 import org.spongepowered.common.config.type.DimensionConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.event.MinecraftBlockDamageSource;
@@ -115,16 +115,24 @@ public static void logStack(SpongeConfig<?> config) {
         }
     }
 
+    public static void logStack(WorldSettings settings) {
+        if (settings.logWithStackTraces()) {
+            Throwable ex = new Throwable();
+            ex.fillInStackTrace();
+            ex.printStackTrace();
+        }
+    }
+
     public static void logEntityDeath(Entity entity) {
         if (entity == null || entity.worldObj.isRemote) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entityDeathLogging()) {
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
+        if (settings.entityDeathLogging()) {
             logInfo("Dim: {0} setDead(): {1}",
                     entity.worldObj.provider.getDimensionId(), entity);
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -133,10 +141,10 @@ public static void logEntityDespawn(Entity entity, String reason) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entityDespawnLogging()) {
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
+        if (settings.entityDespawnLogging()) {
             logInfo("Dim: {0} Despawning ({1}): {2}", entity.worldObj.provider.getDimensionId(), reason, entity);
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -151,14 +159,14 @@ public static void logEntitySpawn(Cause cause, Entity entity) {
         }
 
         Optional<User> user = cause.first(User.class);
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entitySpawnLogging()) {
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
+        if (settings.entitySpawnLogging()) {
             logInfo("SPAWNED " + spawnName + " [RootCause: {0}][User: {1}][World: {2}][DimId: {3}]",
                     getFriendlyCauseName(cause),
                     user.isPresent() ? user.get().getName() : "None",
                     entity.worldObj.getWorldInfo().getWorldName(),
                     entity.worldObj.provider.getDimensionId());
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -167,15 +175,15 @@ public static void logBlockTrack(World world, Block block, BlockPos pos, User us
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().blockTrackLogging() && allowed) {
+        WorldSettings settings = ((IMixinWorld) world).getSettings();
+        if (settings.blockTrackLogging() && allowed) {
             logInfo("Tracking Block " + "[RootCause: {0}][World: {1}][Block: {2}][Pos: {3}]",
                     user.getName(),
                     world.getWorldInfo().getWorldName() + "(" + world.provider.getDimensionId() + ")",
                     ((BlockType) block).getId(),
                     pos);
-            logStack(config);
-        } else if (config.getConfig().getLogging().blockTrackLogging() && !allowed) {
+            logStack(settings);
+        } else if (settings.blockTrackLogging() && !allowed) {
             logInfo("Blacklisted! Unable to track Block " + "[RootCause: {0}][World: {1}][DimId: {2}][Block: {3}][Pos: {4}]",
                     user.getName(),
                     world.getWorldInfo().getWorldName(),
@@ -190,13 +198,12 @@ public static void logBlockAction(Cause cause, World world, CaptureType type, Tr
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(world);
+        WorldSettings settings = ((IMixinWorld) world).getSettings();
         Optional<User> user = cause.first(User.class);
-        LoggingCategory logging = config.getConfig().getLogging();
-        if (logging.blockBreakLogging() && type == CaptureType.BREAK
-            || logging.blockModifyLogging() && type == CaptureType.MODIFY
-            || logging.blockPlaceLogging() && type == CaptureType.PLACE
-            || logging.blockPopulateLogging() && type == CaptureType.POPULATE) {
+        if (settings.blockBreakLogging() && type == CaptureType.BREAK
+            || settings.blockModifyLogging() && type == CaptureType.MODIFY
+            || settings.blockPlaceLogging() && type == CaptureType.PLACE
+            || settings.blockPopulateLogging() && type == CaptureType.POPULATE) {
 
             logInfo("Block " + type.name() + " [RootCause: {0}][User: {1}][World: {2}][DimId: {3}][OriginalState: {4}][NewState: {5}]",
                     getFriendlyCauseName(cause),
@@ -205,7 +212,7 @@ public static void logBlockAction(Cause cause, World world, CaptureType type, Tr
                     world.provider.getDimensionId(),
                     transaction.getOriginal().getState(),
                     transaction.getFinal().getState());
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -214,11 +221,11 @@ public static void logChunkLoad(World world, Vector3i chunkPos) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().chunkLoadLogging()) {
+        WorldSettings settings = ((IMixinWorld) world).getSettings();
+        if (settings.chunkLoadLogging()) {
             logInfo("Load Chunk At [{0}] ({1}, {2})", world.provider.getDimensionId(), chunkPos.getX(),
                     chunkPos.getZ());
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -227,11 +234,11 @@ public static void logChunkUnload(World world, Vector3i chunkPos) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().chunkUnloadLogging()) {
+        WorldSettings settings = ((IMixinWorld) world).getSettings();
+        if (settings.chunkUnloadLogging()) {
             logInfo("Unload Chunk At [{0}] ({1}, {2})", world.provider.getDimensionId(), chunkPos.getX(),
                     chunkPos.getZ());
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -240,11 +247,11 @@ public static void logChunkGCQueueUnload(World world, Chunk chunk) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().chunkGCQueueUnloadLogging()) {
+        WorldSettings settings = ((IMixinWorld) world).getSettings();
+        if (settings.chunkGCQueueUnloadLogging()) {
             logInfo("Chunk GC Queued Chunk At [{0}] ({1}, {2} for unload)", world.provider.getDimensionId(), chunk.xPosition,
                     chunk.zPosition);
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -253,14 +260,14 @@ public static void logExploitSignCommandUpdates(EntityPlayer player, TileEntity
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(player.worldObj);
-        if (config.getConfig().getLogging().logExploitSignCommandUpdates) {
+        WorldSettings settings = ((IMixinWorld) player.worldObj).getSettings();
+        if (settings.exploitSignCommandUpdatesLogging()) {
             logInfo("[EXPLOIT] Player ''{0}'' attempted to exploit sign in world ''{1}'' located at ''{2}'' with command ''{3}''",
                     player.getName(),
                     te.getWorld().getWorldInfo().getWorldName(),
                     te.getPos().getX() + ", " + te.getPos().getY() + ", " + te.getPos().getZ(),
                     command);
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -269,12 +276,26 @@ public static void logExploitItemNameOverflow(EntityPlayer player, int length) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(player.worldObj);
-        if (config.getConfig().getLogging().logExploitItemStackNameOverflow) {
+        WorldSettings settings = ((IMixinWorld) player.worldObj).getSettings();
+        if (settings.exploitItemStackNameOverflowLogging()) {
             logInfo("[EXPLOIT] Player ''{0}'' attempted to send a creative itemstack update with a display name length of ''{1}'' (Max allowed length is 32767). This has been blocked to avoid server overflow.",
                     player.getName(),
                     length);
-            logStack(config);
+            logStack(settings);
+        }
+    }
+
+    public static void logExploitOversizedPacket(EntityPlayer player, String description) {
+        if (player.worldObj.isRemote) {
+            return;
+        }
+
+        WorldSettings settings = ((IMixinWorld) player.worldObj).getSettings();
+        if (settings.exploitOversizedPacketLogging()) {
+            logInfo("[EXPLOIT] Player ''{0}'' attempted to send {1}. This has been blocked to avoid server overflow.",
+                    player.getName(),
+                    description);
+            logStack(settings);
         }
     }
 
@@ -283,11 +304,11 @@ public static void logExploitRespawnInvisibility(EntityPlayer player) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(player.worldObj);
-        if (config.getConfig().getLogging().logExploitRespawnInvisibility) {
+        WorldSettings settings = ((IMixinWorld) player.worldObj).getSettings();
+        if (settings.exploitRespawnInvisibilityLogging()) {
             logInfo("[EXPLOIT] Player ''{0}'' attempted to perform a respawn invisibility exploit to surrounding players.",
                     player.getName());
-            logStack(config);
+            logStack(settings);
         }
     }
 
@@ -303,12 +324,12 @@ public static boolean checkBoundingBoxSize(Entity entity, AxisAlignedBB aabb) {
             return false;
         }
 
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
         if (!(entity instanceof EntityLivingBase) || entity instanceof EntityPlayer) {
             return false; // only check living entities that are not players
         }
 
-        int maxBoundingBoxSize = config.getConfig().getEntity().getMaxBoundingBoxSize();
+        int maxBoundingBoxSize = settings.getMaxBoundingBoxSize();
         if (maxBoundingBoxSize <= 0) {
             return false;
         }
@@ -330,7 +351,7 @@ public static boolean checkBoundingBoxSize(Entity entity, AxisAlignedBB aabb) {
             NBTTagCompound tag = new NBTTagCompound();
             entity.writeToNBT(tag);
             logWarning("Entity NBT: {0}", tag);
-            logStack(config);
+            logStack(settings);
             entity.setDead();
             return true;
         }
@@ -342,12 +363,12 @@ public static boolean checkEntitySpeed(Entity entity, double x, double y, double
             return false;
         }
 
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        int maxSpeed = config.getConfig().getEntity().getMaxSpeed();
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
+        int maxSpeed = settings.getMaxSpeed();
         if (maxSpeed > 0) {
             double distance = x * x + z * z;
             if (distance > maxSpeed) {
-                if (config.getConfig().getLogging().logEntitySpeedRemoval()) {
+                if (settings.entitySpeedRemovalLogging()) {
                     logInfo("Speed violation: {0} was over {1} - Removing Entity: {2}", distance, maxSpeed, entity);
                     if (entity instanceof EntityLivingBase) {
                         EntityLivingBase livingBase = (EntityLivingBase) entity;
@@ -357,14 +378,14 @@ public static boolean checkEntitySpeed(Entity entity, double x, double y, double
                                 livingBase.moveStrafing, livingBase.moveForward);
                     }
 
-                    if (config.getConfig().getLogging().logWithStackTraces()) {
+                    if (settings.logWithStackTraces()) {
                         logInfo("Move offset: ({0}, {1}, {2})", x, y, z);
                         logInfo("Motion: ({0}, {1}, {2})", entity.motionX, entity.motionY, entity.motionZ);
                         logInfo("Entity: {0}", entity);
                         NBTTagCompound tag = new NBTTagCompound();
                         entity.writeToNBT(tag);
                         logInfo("Entity NBT: {0}", tag);
-                        logStack(config);
+                        logStack(settings);
                     }
                 }
                 if (entity instanceof EntityPlayer) { // Skip killing players
@@ -388,11 +409,11 @@ public static void logEntitySize(Entity entity, List list) {
             return;
         }
 
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (!config.getConfig().getLogging().logEntityCollisionChecks()) {
+        WorldSettings settings = ((IMixinWorld) entity.worldObj).getSettings();
+        if (!settings.entityCollisionChecksLogging()) {
             return;
         }
-        int collisionWarnSize = config.getConfig().getEntity().getMaxCollisionSize();
+        int collisionWarnSize = settings.getMaxCollisionSize();
 
         if (list == null) {
             return;
@@ -26,6 +26,7 @@
 
 import net.minecraft.server.management.UserList;
 import net.minecraft.server.management.UserListEntry;
+import org.spongepowered.common.service.user.UserIndex;
 
 import java.io.IOException;
 
@@ -34,6 +35,9 @@ public class UserListUtils {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void addEntry(UserList list, UserListEntry entry) {
         list.getValues().put(list.getObjectKey(entry.getValue()), entry);
+        if (entry.getValue() instanceof com.mojang.authlib.GameProfile) {
+            UserIndex.addProfile((com.mojang.authlib.GameProfile) entry.getValue());
+        }
 
         try {
             list.writeChanges();
@@ -46,6 +50,9 @@ public static void addEntry(UserList list, UserListEntry entry) {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void removeEntry(UserList list, Object object) {
         list.getValues().remove(list.getObjectKey(object));
+        if (object instanceof com.mojang.authlib.GameProfile) {
+            UserIndex.removeUnreferencedProfile((com.mojang.authlib.GameProfile) object);
+        }
 
         try {
             list.writeChanges();
@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector2i;
+import net.minecraft.world.biome.BiomeGenBase;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.biome.BiomeTypes;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
+import org.spongepowered.common.world.extent.MutableBiomeViewDownsize;
+import org.spongepowered.common.world.extent.MutableBiomeViewTransform;
+import org.spongepowered.common.world.extent.UnmodifiableBiomeAreaWrapper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeAreaWorker;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mutable biome area that can be read and written from multiple threads.
+ *
+ * <p>The biome ids are stored with the same layout as in
+ * {@link ByteArrayMutableBiomeBuffer}, but packed four to an int in an
+ * {@link AtomicIntegerArray}.</p>
+ */
+@NonnullByDefault
+public final class AtomicByteArrayMutableBiomeBuffer extends AbstractBiomeBuffer implements MutableBiomeArea {
+
+    private final AtomicIntegerArray biomes;
+    private final BiomeGenBase[] biomeById = BiomeGenBase.getBiomeGenArray();
+
+    public AtomicByteArrayMutableBiomeBuffer(Vector2i start, Vector2i size) {
+        super(start, size);
+        this.biomes = new AtomicIntegerArray((size.getX() * size.getY() + 3) >> 2);
+    }
+
+    /**
+     * Creates a new instance holding a copy of the given biome ids.
+     *
+     * @param biomes The biome ids, in the layout of {@link ByteArrayMutableBiomeBuffer}
+     * @param start The start of the area
+     * @param size The size of the area
+     */
+    public AtomicByteArrayMutableBiomeBuffer(byte[] biomes, Vector2i start, Vector2i size) {
+        super(start, size);
+        final int[] packed = new int[(biomes.length + 3) >> 2];
+        for (int i = 0; i < biomes.length; i++) {
+            packed[i >> 2] |= (biomes[i] & 0xFF) << shift(i);
+        }
+        this.biomes = new AtomicIntegerArray(packed);
+    }
+
+    private static int shift(int index) {
+        return (index & 3) << 3;
+    }
+
+    private byte getId(int index) {
+        return (byte) (this.biomes.get(index >> 2) >>> shift(index));
+    }
+
+    private void setId(int index, byte id) {
+        final int slot = index >> 2;
+        final int shift = shift(index);
+        final int mask = ~(0xFF << shift);
+        final int value = (id & 0xFF) << shift;
+        int packed;
+        do {
+            packed = this.biomes.get(slot);
+        } while (!this.biomes.compareAndSet(slot, packed, (packed & mask) | value));
+    }
+
+    /**
+     * Copies the biome ids into a new array, in the layout of
+     * {@link ByteArrayMutableBiomeBuffer}.
+     *
+     * @return The biome ids
+     */
+    public byte[] toArray() {
+        final byte[] copy = new byte[this.size.getX() * this.size.getY()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = getId(i);
+        }
+        return copy;
+    }
+
+    @Override
+    public void setBiome(int x, int z, BiomeType biome) {
+        checkRange(x, z);
+        setId(getIndex(x, z), (byte) ((BiomeGenBase) biome).biomeID);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Override
+    public BiomeType getBiome(int x, int z) {
+        checkRange(x, z);
+        BiomeType biomeType = (BiomeType) this.biomeById[getId(getIndex(x, z)) & 0xff];
+        return biomeType == null ? BiomeTypes.OCEAN : biomeType;
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(Vector2i newMin, Vector2i newMax) {
+        checkRange(newMin.getX(), newMin.getY());
+        checkRange(newMax.getX(), newMax.getY());
+        return new MutableBiomeViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(DiscreteTransform2 transform) {
+        return new MutableBiomeViewTransform(this, transform);
+    }
+
+    @Override
+    public MutableBiomeAreaWorker<? extends MutableBiomeArea> getBiomeWorker() {
+        return new SpongeMutableBiomeAreaWorker<>(this);
+    }
+
+    @Override
+    public UnmodifiableBiomeArea getUnmodifiableBiomeView() {
+        return new UnmodifiableBiomeAreaWrapper(this);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new ByteArrayMutableBiomeBuffer(toArray(), this.start, this.size);
+            case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(toArray(), this.start, this.size);
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+    @Override
+    public ImmutableBiomeArea getImmutableBiomeCopy() {
+        return ByteArrayImmutableBiomeBuffer.newWithoutArrayClone(toArray(), this.start, this.size);
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.MutableBlockViewDownsize;
+import org.spongepowered.common.world.extent.MutableBlockViewTransform;
+import org.spongepowered.common.world.extent.UnmodifiableBlockVolumeWrapper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mutable block volume that can be read and written from multiple threads.
+ *
+ * <p>The block state ids are stored with the same layout as in
+ * {@link ShortArrayMutableBlockBuffer}, but packed two to an int in an
+ * {@link AtomicIntegerArray}, so every write is visible to all threads and
+ * writes to neighbouring blocks never overwrite each other.</p>
+ */
+@NonnullByDefault
+public class AtomicShortArrayMutableBlockBuffer extends AbstractBlockBuffer implements MutableBlockVolume {
+
+    @SuppressWarnings("ConstantConditions")
+    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
+    private final AtomicIntegerArray blocks;
+
+    public AtomicShortArrayMutableBlockBuffer(Vector3i start, Vector3i size) {
+        super(start, size);
+        this.blocks = new AtomicIntegerArray((size.getX() * size.getY() * size.getZ() + 1) >> 1);
+    }
+
+    /**
+     * Creates a new instance holding a copy of the given block state ids.
+     *
+     * @param blocks The block state ids, in the layout of {@link ShortArrayMutableBlockBuffer}
+     * @param start The start of the volume
+     * @param size The size of the volume
+     */
+    public AtomicShortArrayMutableBlockBuffer(short[] blocks, Vector3i start, Vector3i size) {
+        super(start, size);
+        final int[] packed = new int[(blocks.length + 1) >> 1];
+        for (int i = 0; i < blocks.length; i++) {
+            packed[i >> 1] |= (blocks[i] & 0xFFFF) << shift(i);
+        }
+        this.blocks = new AtomicIntegerArray(packed);
+    }
+
+    private static int shift(int index) {
+        return (index & 1) << 4;
+    }
+
+    private short getId(int index) {
+        return (short) (this.blocks.get(index >> 1) >>> shift(index));
+    }
+
+    private void setId(int index, short id) {
+        final int slot = index >> 1;
+        final int shift = shift(index);
+        final int mask = ~(0xFFFF << shift);
+        final int value = (id & 0xFFFF) << shift;
+        int packed;
+        do {
+            packed = this.blocks.get(slot);
+        } while (!this.blocks.compareAndSet(slot, packed, (packed & mask) | value));
+    }
+
+    /**
+     * Copies the block state ids into a new array, in the layout of
+     * {@link ShortArrayMutableBlockBuffer}.
+     *
+     * @return The block state ids
+     */
+    public short[] toArray() {
+        final short[] copy = new short[this.size.getX() * this.size.getY() * this.size.getZ()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = getId(i);
+        }
+        return copy;
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        checkRange(x, y, z);
+        setId(getIndex(x, y, z), (short) Block.BLOCK_STATE_IDS.get((IBlockState) block));
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        BlockState block = (BlockState) Block.BLOCK_STATE_IDS.getByValue(getId(getIndex(x, y, z)));
+        return block == null ? AIR : block;
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
+        checkRange(newMax.getX(), newMax.getY(), newMax.getZ());
+        return new MutableBlockViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new MutableBlockViewTransform(this, transform);
+    }
+
+    @Override
+    public MutableBlockVolumeWorker<? extends MutableBlockVolume> getBlockWorker() {
+        return new SpongeMutableBlockVolumeWorker<>(this);
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return new UnmodifiableBlockVolumeWrapper(this);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new ShortArrayMutableBlockBuffer(toArray(), this.start, this.size);
+            case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(toArray(), this.start, this.size);
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        return ShortArrayImmutableBlockBuffer.newWithoutArrayClone(toArray(), this.start, this.size);
+    }
+}
@@ -104,6 +104,7 @@ public MutableBlockVolume getBlockCopy(StorageType type) {
             case STANDARD:
                 return new ShortArrayMutableBlockBuffer(this.chunkPrimer.data.clone(), this.start, this.size);
             case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(this.chunkPrimer.data, this.start, this.size);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import gnu.trove.impl.Constants;
+import gnu.trove.map.hash.TIntIntHashMap;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the block state ids of a volume in sections of 16x16x16 blocks.
+ * Each section has its own palette of ids and packs the palette index of
+ * every block into as few bits as the palette allows. Sections that only
+ * hold air aren't allocated.
+ *
+ * <p>Positions are relative to the start of the volume. The number of
+ * blocks isn't limited by the maximum array size, only the number of
+ * sections is.</p>
+ */
+public final class PalettedBlockStorage {
+
+    private static final int SECTION_BLOCKS = 16 * 16 * 16;
+    private static final int AIR = 0;
+
+    private final int sectionsX;
+    private final int sectionsZ;
+    private final Section[] sections;
+
+    public PalettedBlockStorage(Vector3i size) {
+        this.sectionsX = (size.getX() + 15) >> 4;
+        this.sectionsZ = (size.getZ() + 15) >> 4;
+        final long sections = (long) this.sectionsX * (long) ((size.getY() + 15) >> 4) * (long) this.sectionsZ;
+        // Leave 8 bytes for a header used in some JVMs
+        if (sections > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Cannot store the blocks because the section limit was reached");
+        }
+        this.sections = new Section[(int) sections];
+    }
+
+    private PalettedBlockStorage(PalettedBlockStorage other) {
+        this.sectionsX = other.sectionsX;
+        this.sectionsZ = other.sectionsZ;
+        this.sections = new Section[other.sections.length];
+        for (int i = 0; i < this.sections.length; i++) {
+            final Section section = other.sections[i];
+            if (section != null) {
+                this.sections[i] = new Section(section);
+            }
+        }
+    }
+
+    private int getSectionIndex(int x, int y, int z) {
+        return ((y >> 4) * this.sectionsZ + (z >> 4)) * this.sectionsX + (x >> 4);
+    }
+
+    private static int getBlockIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    public int get(int x, int y, int z) {
+        final Section section = this.sections[getSectionIndex(x, y, z)];
+        return section == null ? AIR : section.get(getBlockIndex(x, y, z));
+    }
+
+    public void set(int x, int y, int z, int id) {
+        final int sectionIndex = getSectionIndex(x, y, z);
+        Section section = this.sections[sectionIndex];
+        if (section == null) {
+            if (id == AIR) {
+                return;
+            }
+            section = this.sections[sectionIndex] = new Section(AIR);
+        }
+        section.set(getBlockIndex(x, y, z), id);
+    }
+
+    public PalettedBlockStorage copy() {
+        return new PalettedBlockStorage(this);
+    }
+
+    /**
+     * Estimates the heap memory used by this storage, in bytes.
+     *
+     * @return The estimated memory usage
+     */
+    public long getMemoryUsage() {
+        long memory = 16 + 16 + 4L * this.sections.length;
+        for (Section section : this.sections) {
+            if (section != null) {
+                memory += section.getMemoryUsage();
+            }
+        }
+        return memory;
+    }
+
+    private static final class Section {
+
+        // Palettes up to this size are searched instead of using a map
+        private static final int MAX_SEARCHED_PALETTE = 16;
+
+        private int[] palette;
+        private int paletteSize;
+        @Nullable private TIntIntHashMap paletteIndices;
+        // One of 0, 1, 2, 4, 8 or 16, so entries never span two longs
+        private int bits;
+        @Nullable private long[] data;
+
+        Section(int id) {
+            this.palette = new int[] {id};
+            this.paletteSize = 1;
+        }
+
+        Section(Section other) {
+            this.palette = other.palette.clone();
+            this.paletteSize = other.paletteSize;
+            if (other.paletteIndices != null) {
+                this.paletteIndices = new TIntIntHashMap(other.paletteIndices);
+            }
+            this.bits = other.bits;
+            if (other.data != null) {
+                this.data = other.data.clone();
+            }
+        }
+
+        int get(int index) {
+            return this.palette[getPaletteIndex(index)];
+        }
+
+        void set(int index, int id) {
+            int paletteIndex = indexOf(id);
+            if (paletteIndex < 0) {
+                paletteIndex = addToPalette(id);
+            }
+            if (this.bits != 0) {
+                setPaletteIndex(index, paletteIndex);
+            }
+        }
+
+        private int getPaletteIndex(int index) {
+            return this.bits == 0 ? 0 : readEntry(this.data, this.bits, index);
+        }
+
+        private void setPaletteIndex(int index, int paletteIndex) {
+            writeEntry(this.data, this.bits, index, paletteIndex);
+        }
+
+        private static int readEntry(long[] data, int bits, int index) {
+            final int entriesPerLong = 64 / bits;
+            final long word = data[index / entriesPerLong];
+            return (int) (word >>> ((index % entriesPerLong) * bits)) & ((1 << bits) - 1);
+        }
+
+        private static void writeEntry(long[] data, int bits, int index, int entry) {
+            final int entriesPerLong = 64 / bits;
+            final int shift = (index % entriesPerLong) * bits;
+            final long mask = ((1L << bits) - 1) << shift;
+            final int wordIndex = index / entriesPerLong;
+            data[wordIndex] = (data[wordIndex] & ~mask) | ((long) entry << shift);
+        }
+
+        private int indexOf(int id) {
+            if (this.paletteIndices != null) {
+                return this.paletteIndices.get(id);
+            }
+            for (int i = 0; i < this.paletteSize; i++) {
+                if (this.palette[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int addToPalette(int id) {
+            if (this.paletteSize == this.palette.length) {
+                this.palette = Arrays.copyOf(this.palette, this.paletteSize * 2);
+            }
+            final int paletteIndex = this.paletteSize++;
+            this.palette[paletteIndex] = id;
+            if (this.paletteIndices != null) {
+                this.paletteIndices.put(id, paletteIndex);
+            } else if (this.paletteSize > MAX_SEARCHED_PALETTE) {
+                this.paletteIndices = new TIntIntHashMap(this.paletteSize * 2, Constants.DEFAULT_LOAD_FACTOR, -1, -1);
+                for (int i = 0; i < this.paletteSize; i++) {
+                    this.paletteIndices.put(this.palette[i], i);
+                }
+            }
+            if (this.paletteSize > 1 << this.bits) {
+                resize(this.bits == 0 ? 1 : this.bits * 2);
+            }
+            return paletteIndex;
+        }
+
+        private void resize(int bits) {
+            final int oldBits = this.bits;
+            final long[] oldData = this.data;
+            this.bits = bits;
+            this.data = new long[SECTION_BLOCKS * bits / 64];
+            if (oldBits != 0) {
+                for (int i = 0; i < SECTION_BLOCKS; i++) {
+                    writeEntry(this.data, bits, i, readEntry(oldData, oldBits, i));
+                }
+            }
+        }
+
+        long getMemoryUsage() {
+            long memory = 40 + 16 + 4L * this.palette.length;
+            if (this.data != null) {
+                memory += 16 + 8L * this.data.length;
+            }
+            if (this.paletteIndices != null) {
+                // Keys, values and states of the map
+                memory += 64 + 9L * this.paletteIndices.capacity();
+            }
+            return memory;
+        }
+
+    }
+
+}
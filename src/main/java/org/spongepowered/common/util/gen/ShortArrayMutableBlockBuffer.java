@@ -98,6 +98,7 @@ public MutableBlockVolume getBlockCopy(StorageType type) {
             case STANDARD:
                 return new ShortArrayMutableBlockBuffer(this.blocks.clone(), this.start, this.size);
             case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(this.blocks, this.start, this.size);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
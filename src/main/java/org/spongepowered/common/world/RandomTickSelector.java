@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import gnu.trove.list.array.TIntArrayList;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Picks the positions to random tick in a set of chunks on the common
+ * fork-join pool. Only block states are read while selecting, the ticks
+ * themselves have to be applied by the caller on the main thread, which
+ * must re-check the block at each selected position since earlier ticks
+ * may have changed it.
+ */
+public final class RandomTickSelector {
+
+    private RandomTickSelector() {
+    }
+
+    /**
+     * Selects the positions to random tick in each of the provided chunks.
+     *
+     * @param chunks The chunks to select positions in
+     * @param seed The seed of this selection, each chunk derives its own
+     *     seed from it and its index
+     * @param randomTickSpeed The number of positions to try per section
+     * @return The packed positions per chunk, in the order of the chunks
+     */
+    public static int[][] select(List<Chunk> chunks, int seed, int randomTickSpeed) {
+        final int[][] selected = new int[chunks.size()][];
+        IntStream.range(0, selected.length).parallel()
+                .forEach(index -> selected[index] = select(chunks.get(index).getBlockStorageArray(), getChunkSeed(seed, index), randomTickSpeed));
+        return selected;
+    }
+
+    private static int[] select(ExtendedBlockStorage[] storages, int seed, int randomTickSpeed) {
+        final TIntArrayList positions = new TIntArrayList();
+        int lcg = seed;
+        for (ExtendedBlockStorage storage : storages) {
+            if (storage != null && storage.getNeedsRandomTick()) {
+                for (int i = 0; i < randomTickSpeed; i++) {
+                    // Same position picking as vanilla
+                    lcg = lcg * 3 + 1013904223;
+                    final int random = lcg >> 2;
+                    final int x = random & 15;
+                    final int z = random >> 8 & 15;
+                    final int y = random >> 16 & 15;
+                    if (storage.get(x, y, z).getBlock().getTickRandomly()) {
+                        positions.add(pack(x, y + storage.getYLocation(), z));
+                    }
+                }
+            }
+        }
+        return positions.toArray();
+    }
+
+    private static int getChunkSeed(int seed, int index) {
+        int hash = seed ^ index * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    public static int pack(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
+    public static int unpackX(int packed) {
+        return packed & 15;
+    }
+
+    public static int unpackY(int packed) {
+        return packed >>> 8;
+    }
+
+    public static int unpackZ(int packed) {
+        return packed >> 4 & 15;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The sorted set of pending {@link NextTickListEntry}s of a world, which
+ * additionally indexes its entries by block position and by chunk so the
+ * entries of a single position or chunk can be found without scanning the
+ * whole set.
+ *
+ * <p>The index is maintained by {@link #add}, {@link #remove},
+ * {@link #pollFirst()}, {@link #pollLast()}, {@link #clear()} and removals
+ * through {@link #iterator()}. The set must not be modified through any of
+ * its views, such as {@link #headSet(Object)}.</p>
+ */
+public final class ScheduledBlockUpdateSet extends TreeSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient TLongObjectMap<List<NextTickListEntry>> byPosition = new TLongObjectHashMap<>();
+    private final transient TLongObjectMap<Set<NextTickListEntry>> byChunk = new TLongObjectHashMap<>();
+
+    private static long getChunkKey(BlockPos pos) {
+        return ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Gets the pending entries at the provided position.
+     *
+     * @param pos The block position
+     * @return The entries at the position, in no particular order
+     */
+    public List<NextTickListEntry> getEntriesAt(BlockPos pos) {
+        final List<NextTickListEntry> entries = this.byPosition.get(pos.toLong());
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Gets the pending entries within the provided chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The entries within the chunk, in no particular order
+     */
+    public Collection<NextTickListEntry> getEntriesInChunk(int chunkX, int chunkZ) {
+        final Set<NextTickListEntry> entries = this.byChunk.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        return entries == null ? Collections.emptySet() : Collections.unmodifiableSet(entries);
+    }
+
+    private void index(NextTickListEntry entry) {
+        final long posKey = entry.position.toLong();
+        List<NextTickListEntry> entries = this.byPosition.get(posKey);
+        if (entries == null) {
+            entries = new ArrayList<>(2);
+            this.byPosition.put(posKey, entries);
+        }
+        entries.add(entry);
+
+        final long chunkKey = getChunkKey(entry.position);
+        Set<NextTickListEntry> chunkEntries = this.byChunk.get(chunkKey);
+        if (chunkEntries == null) {
+            chunkEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.byChunk.put(chunkKey, chunkEntries);
+        }
+        chunkEntries.add(entry);
+    }
+
+    private void unindex(NextTickListEntry entry) {
+        final long posKey = entry.position.toLong();
+        final List<NextTickListEntry> entries = this.byPosition.get(posKey);
+        if (entries != null) {
+            // Entries are equal by position and block, so remove by identity
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i) == entry) {
+                    entries.remove(i);
+                    break;
+                }
+            }
+            if (entries.isEmpty()) {
+                this.byPosition.remove(posKey);
+            }
+        }
+
+        final long chunkKey = getChunkKey(entry.position);
+        final Set<NextTickListEntry> chunkEntries = this.byChunk.get(chunkKey);
+        if (chunkEntries != null && chunkEntries.remove(entry) && chunkEntries.isEmpty()) {
+            this.byChunk.remove(chunkKey);
+        }
+    }
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (super.add(entry)) {
+            index(entry);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends NextTickListEntry> entries) {
+        // TreeSet.addAll may bypass add, so always add one by one
+        boolean modified = false;
+        for (NextTickListEntry entry : entries) {
+            modified |= add(entry);
+        }
+        return modified;
+    }
+
+    @Override
+    public boolean remove(Object obj) {
+        if (super.remove(obj)) {
+            unindex((NextTickListEntry) obj);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public NextTickListEntry pollFirst() {
+        final NextTickListEntry entry = super.pollFirst();
+        if (entry != null) {
+            unindex(entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public NextTickListEntry pollLast() {
+        final NextTickListEntry entry = super.pollLast();
+        if (entry != null) {
+            unindex(entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.byPosition.clear();
+        this.byChunk.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        final Iterator<NextTickListEntry> iterator = super.iterator();
+        return new Iterator<NextTickListEntry>() {
+
+            private NextTickListEntry last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public NextTickListEntry next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(this.last);
+            }
+        };
+    }
+
+}
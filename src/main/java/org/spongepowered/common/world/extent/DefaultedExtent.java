@@ -39,10 +39,10 @@
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.common.util.gen.AtomicByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.AtomicShortArrayMutableBlockBuffer;
 import org.spongepowered.common.util.gen.ByteArrayImmutableBiomeBuffer;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
-import org.spongepowered.common.util.gen.ShortArrayImmutableBlockBuffer;
-import org.spongepowered.common.util.gen.ShortArrayMutableBlockBuffer;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeAreaWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
 
@@ -79,6 +79,8 @@ default MutableBiomeArea getBiomeCopy(StorageType type) {
                 return new ByteArrayMutableBiomeBuffer(ExtentBufferUtil.copyToArray(this, getBiomeMin(), getBiomeMax(), getBiomeSize()),
                     getBiomeMin(), getBiomeSize());
             case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(ExtentBufferUtil.copyToArray(this, getBiomeMin(), getBiomeMax(), getBiomeSize()),
+                    getBiomeMin(), getBiomeSize());
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -115,9 +117,10 @@ default UnmodifiableBlockVolume getUnmodifiableBlockView() {
     default MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
-                return new ShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, getBlockMin(), getBlockMax(), getBlockSize()),
-                    getBlockMin(), getBlockSize());
+                return ExtentBufferUtil.newBlockCopy(this, getBlockMin(), getBlockMax(), getBlockSize());
             case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, getBlockMin(), getBlockMax(), getBlockSize()),
+                    getBlockMin(), getBlockSize());
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -125,8 +128,7 @@ default MutableBlockVolume getBlockCopy(StorageType type) {
 
     @Override
     default ImmutableBlockVolume getImmutableBlockCopy() {
-        return ShortArrayImmutableBlockBuffer.newWithoutArrayClone(ExtentBufferUtil.copyToArray(this, getBlockMin(), getBlockMax(), getBlockSize()),
-            getBlockMin(), getBlockSize());
+        return ExtentBufferUtil.newImmutableBlockCopy(this, getBlockMin(), getBlockMax(), getBlockSize());
     }
 
     @Override
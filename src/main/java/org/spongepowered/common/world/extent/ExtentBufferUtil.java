@@ -28,12 +28,30 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.world.extent.BiomeArea;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.util.gen.PalettedBlockStorage;
+import org.spongepowered.common.util.gen.PalettedImmutableBlockBuffer;
+import org.spongepowered.common.util.gen.PalettedMutableBlockBuffer;
+import org.spongepowered.common.util.gen.ShortArrayImmutableBlockBuffer;
+import org.spongepowered.common.util.gen.ShortArrayMutableBlockBuffer;
 
 public class ExtentBufferUtil {
 
+    /**
+     * Block copies larger than this are stored in paletted sections instead
+     * of one array, which takes far less memory for typical terrain and has
+     * no size limit.
+     */
+    private static final long PALETTED_COPY_THRESHOLD = 1 << 24;
+
     public static byte[] copyToArray(BiomeArea area, Vector2i min, Vector2i max, Vector2i size) {
         // Check if the area has more biomes than can be stored in an array
         final long memory = (long) size.getX() * (long) size.getY();
@@ -59,6 +77,15 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
             throw new OutOfMemoryError("Cannot copy the blocks to an array because the size limit was reached");
         }
         final short[] copy = new short[(int) memory];
+        final BlockVolume source = getBackingVolume(volume);
+        if (source instanceof World && ((World) source).getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromWorld((World) source, min, max, size, copy);
+            return copy;
+        }
+        if (source instanceof Chunk && ((Chunk) source).getWorld().getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromChunk((Chunk) source, min, max, size, copy);
+            return copy;
+        }
         int i = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int z = min.getZ(); z <= max.getZ(); z++) {
@@ -70,4 +97,124 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
         return copy;
     }
 
+    public static MutableBlockVolume newBlockCopy(BlockVolume volume, Vector3i min, Vector3i max, Vector3i size) {
+        if ((long) size.getX() * (long) size.getY() * (long) size.getZ() > PALETTED_COPY_THRESHOLD) {
+            return new PalettedMutableBlockBuffer(copyToStorage(volume, min, max, size), min, size);
+        }
+        return new ShortArrayMutableBlockBuffer(copyToArray(volume, min, max, size), min, size);
+    }
+
+    public static ImmutableBlockVolume newImmutableBlockCopy(BlockVolume volume, Vector3i min, Vector3i max, Vector3i size) {
+        if ((long) size.getX() * (long) size.getY() * (long) size.getZ() > PALETTED_COPY_THRESHOLD) {
+            return PalettedImmutableBlockBuffer.newWithoutStorageCopy(copyToStorage(volume, min, max, size), min, size);
+        }
+        return ShortArrayImmutableBlockBuffer.newWithoutArrayClone(copyToArray(volume, min, max, size), min, size);
+    }
+
+    public static PalettedBlockStorage copyToStorage(BlockVolume volume, Vector3i min, Vector3i max, Vector3i size) {
+        final PalettedBlockStorage copy = new PalettedBlockStorage(size);
+        final BlockVolume source = getBackingVolume(volume);
+        if (source instanceof World && ((World) source).getWorldType() != WorldType.DEBUG_WORLD) {
+            for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+                for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                    copyFromChunk(((World) source).getChunkFromChunkCoords(chunkX, chunkZ), min, max, copy);
+                }
+            }
+            return copy;
+        }
+        if (source instanceof Chunk && ((Chunk) source).getWorld().getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromChunk((Chunk) source, min, max, copy);
+            return copy;
+        }
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    final int id = Block.BLOCK_STATE_IDS.get((IBlockState) volume.getBlock(x, y, z));
+                    copy.set(x - min.getX(), y - min.getY(), z - min.getZ(), id);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the volume that the blocks of the given volume are read from,
+     * skipping views that only restrict the bounds.
+     */
+    private static BlockVolume getBackingVolume(BlockVolume volume) {
+        while (true) {
+            if (volume instanceof ExtentViewDownsize) {
+                volume = ((ExtentViewDownsize) volume).getExtent();
+            } else if (volume instanceof AbstractBlockViewDownsize) {
+                volume = ((AbstractBlockViewDownsize<?>) volume).volume;
+            } else {
+                return volume;
+            }
+        }
+    }
+
+    private static void copyFromWorld(World world, Vector3i min, Vector3i max, Vector3i size, short[] copy) {
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                copyFromChunk(world.getChunkFromChunkCoords(chunkX, chunkZ), min, max, size, copy);
+            }
+        }
+    }
+
+    /**
+     * Copies the block state ids of the part of the region inside the chunk
+     * straight from its sections. Missing sections are left as air.
+     */
+    private static void copyFromChunk(Chunk chunk, Vector3i min, Vector3i max, Vector3i size, short[] copy) {
+        final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+        final int minX = Math.max(min.getX(), chunk.xPosition << 4);
+        final int maxX = Math.min(max.getX(), (chunk.xPosition << 4) + 15);
+        final int minZ = Math.max(min.getZ(), chunk.zPosition << 4);
+        final int maxZ = Math.min(max.getZ(), (chunk.zPosition << 4) + 15);
+        final int yLine = size.getY();
+        final int yzSlice = yLine * size.getZ();
+        for (int section = Math.max(min.getY() >> 4, 0); section <= Math.min(max.getY() >> 4, storages.length - 1); section++) {
+            final ExtendedBlockStorage storage = storages[section];
+            if (storage == null) {
+                continue;
+            }
+            final char[] data = storage.getData();
+            final int minY = Math.max(min.getY(), section << 4);
+            final int maxY = Math.min(max.getY(), (section << 4) + 15);
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    int i = (x - min.getX()) * yzSlice + (z - min.getZ()) * yLine + (minY - min.getY());
+                    final int column = (z & 15) << 4 | (x & 15);
+                    for (int y = minY; y <= maxY; y++) {
+                        copy[i++] = (short) data[(y & 15) << 8 | column];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void copyFromChunk(Chunk chunk, Vector3i min, Vector3i max, PalettedBlockStorage copy) {
+        final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+        final int minX = Math.max(min.getX(), chunk.xPosition << 4);
+        final int maxX = Math.min(max.getX(), (chunk.xPosition << 4) + 15);
+        final int minZ = Math.max(min.getZ(), chunk.zPosition << 4);
+        final int maxZ = Math.min(max.getZ(), (chunk.zPosition << 4) + 15);
+        for (int section = Math.max(min.getY() >> 4, 0); section <= Math.min(max.getY() >> 4, storages.length - 1); section++) {
+            final ExtendedBlockStorage storage = storages[section];
+            if (storage == null) {
+                continue;
+            }
+            final char[] data = storage.getData();
+            final int minY = Math.max(min.getY(), section << 4);
+            final int maxY = Math.min(max.getY(), (section << 4) + 15);
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        copy.set(x - min.getX(), y - min.getY(), z - min.getZ(), data[(y & 15) << 8 | (z & 15) << 4 | (x & 15)]);
+                    }
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * Splits the work of a worker along the z axis into slabs, which are run on
+ * the common fork-join pool when the work is parallel and large enough.
+ */
+final class SlabTasks {
+
+    /**
+     * The minimum number of positions in a slab. Volumes that are no larger
+     * are always worked on by the calling thread.
+     */
+    static final int MIN_SLAB_POSITIONS = 1 << 14;
+
+    private SlabTasks() {
+    }
+
+    @FunctionalInterface
+    interface SlabAction {
+
+        void run(int zMin, int zMax);
+
+    }
+
+    @FunctionalInterface
+    interface SlabReducer<T> {
+
+        T reduce(int zMin, int zMax);
+
+    }
+
+    private static int getSlabDepth(int zMin, int zMax, int positionsPerZ, boolean parallel) {
+        final int depth = zMax - zMin + 1;
+        if (!parallel || (long) depth * positionsPerZ <= MIN_SLAB_POSITIONS) {
+            return depth;
+        }
+        return Math.max(1, MIN_SLAB_POSITIONS / Math.max(1, positionsPerZ));
+    }
+
+    static void run(int zMin, int zMax, int positionsPerZ, boolean parallel, SlabAction action) {
+        final int slabDepth = getSlabDepth(zMin, zMax, positionsPerZ, parallel);
+        if (slabDepth > zMax - zMin) {
+            action.run(zMin, zMax);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ActionTask(zMin, zMax, slabDepth, action));
+        }
+    }
+
+    /**
+     * Reduces each slab separately, then merges the results in the order of
+     * the slabs, so the result is the same as reducing the whole volume in
+     * one pass as long as the merge function is consistent with the reducer.
+     */
+    static <T> T reduce(int zMin, int zMax, int positionsPerZ, boolean parallel, SlabReducer<T> reducer, BiFunction<T, T, T> merge) {
+        final int slabDepth = getSlabDepth(zMin, zMax, positionsPerZ, parallel);
+        if (slabDepth > zMax - zMin) {
+            return reducer.reduce(zMin, zMax);
+        }
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(zMin, zMax, slabDepth, reducer, merge));
+    }
+
+    private static final class ActionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final int zMin;
+        private final int zMax;
+        private final int slabDepth;
+        private final SlabAction action;
+
+        ActionTask(int zMin, int zMax, int slabDepth, SlabAction action) {
+            this.zMin = zMin;
+            this.zMax = zMax;
+            this.slabDepth = slabDepth;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.zMax - this.zMin < this.slabDepth) {
+                this.action.run(this.zMin, this.zMax);
+                return;
+            }
+            final int zMiddle = this.zMin + ((this.zMax - this.zMin) >> 1);
+            invokeAll(new ActionTask(this.zMin, zMiddle, this.slabDepth, this.action),
+                new ActionTask(zMiddle + 1, this.zMax, this.slabDepth, this.action));
+        }
+
+    }
+
+    private static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+        private final int zMin;
+        private final int zMax;
+        private final int slabDepth;
+        private final SlabReducer<T> reducer;
+        private final BiFunction<T, T, T> merge;
+
+        ReduceTask(int zMin, int zMax, int slabDepth, SlabReducer<T> reducer, BiFunction<T, T, T> merge) {
+            this.zMin = zMin;
+            this.zMax = zMax;
+            this.slabDepth = slabDepth;
+            this.reducer = reducer;
+            this.merge = merge;
+        }
+
+        @Override
+        protected T compute() {
+            if (this.zMax - this.zMin < this.slabDepth) {
+                return this.reducer.reduce(this.zMin, this.zMax);
+            }
+            final int zMiddle = this.zMin + ((this.zMax - this.zMin) >> 1);
+            final ReduceTask<T> first = new ReduceTask<>(this.zMin, zMiddle, this.slabDepth, this.reducer, this.merge);
+            first.fork();
+            final T second = new ReduceTask<>(zMiddle + 1, this.zMax, this.slabDepth, this.reducer, this.merge).compute();
+            return this.merge.apply(first.join(), second);
+        }
+
+    }
+
+}
@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector2i;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.BiomeArea;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
 import org.spongepowered.api.world.extent.MutableBiomeArea;
 import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
 import org.spongepowered.api.world.extent.worker.BiomeAreaWorker;
@@ -36,11 +37,16 @@
 import org.spongepowered.api.world.extent.worker.procedure.BiomeAreaMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeAreaReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeAreaVisitor;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.gen.AtomicByteArrayMutableBiomeBuffer;
 
 import java.util.function.BiFunction;
 
 /**
- *
+ * Worker over a biome area. When parallel volume workers are enabled in the
+ * config, iterating and reducing large immutable or thread safe areas is
+ * done in slabs on several threads, so the visitors and reducers must then
+ * be thread safe. Mapping and merging always run on the calling thread.
  */
 public class SpongeBiomeAreaWorker<A extends BiomeArea> implements BiomeAreaWorker<A> {
 
@@ -101,11 +107,13 @@ public void iterate(BiomeAreaVisitor<A> visitor) {
         final int zMin = this.area.getBiomeMin().getY();
         final int xMax = this.area.getBiomeMax().getX();
         final int zMax = this.area.getBiomeMax().getY();
-        for (int z = zMin; z <= zMax; z++) {
-            for (int x = xMin; x <= xMax; x++) {
-                visitor.visit(this.area, x, z);
+        SlabTasks.run(zMin, zMax, getPositionsPerZ(), isParallel(), (zFrom, zTo) -> {
+            for (int z = zFrom; z <= zTo; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    visitor.visit(this.area, x, z);
+                }
             }
-        }
+        });
     }
 
     @Override
@@ -115,13 +123,30 @@ public <T> T reduce(BiomeAreaReducer<T> reducer, BiFunction<T, T, T> merge, T id
         final int zMin = unmodifiableArea.getBiomeMin().getY();
         final int xMax = unmodifiableArea.getBiomeMax().getX();
         final int zMax = unmodifiableArea.getBiomeMax().getY();
-        T reduction = identity;
-        for (int z = zMin; z <= zMax; z++) {
-            for (int x = xMin; x <= xMax; x++) {
-                reduction = reducer.reduce(unmodifiableArea, x, z, reduction);
+        return SlabTasks.reduce(zMin, zMax, getPositionsPerZ(), isParallel(), (zFrom, zTo) -> {
+            T reduction = identity;
+            for (int z = zFrom; z <= zTo; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    reduction = reducer.reduce(unmodifiableArea, x, z, reduction);
+                }
             }
-        }
-        return reduction;
+            return reduction;
+        }, merge);
+    }
+
+    private int getPositionsPerZ() {
+        return this.area.getBiomeSize().getX();
+    }
+
+    /**
+     * Gets whether the area may be worked on from several threads, which
+     * requires it to be immutable or thread safe.
+     *
+     * @return Whether to work in parallel
+     */
+    private boolean isParallel() {
+        return (this.area instanceof ImmutableBiomeArea || this.area instanceof AtomicByteArrayMutableBiomeBuffer)
+               && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelVolumeWorkers();
     }
 
     private Vector2i align(BiomeArea other) {
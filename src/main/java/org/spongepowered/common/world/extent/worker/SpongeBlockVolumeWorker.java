@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -36,11 +37,16 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.gen.AtomicShortArrayMutableBlockBuffer;
 
 import java.util.function.BiFunction;
 
 /**
- *
+ * Worker over a block volume. When parallel volume workers are enabled in the
+ * config, iterating and reducing large immutable or thread safe volumes is
+ * done in slabs on several threads, so the visitors and reducers must then
+ * be thread safe. Mapping and merging always run on the calling thread.
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
@@ -115,13 +121,15 @@ public void iterate(BlockVolumeVisitor<V> visitor) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    visitor.visit(this.volume, x, y, z);
+        SlabTasks.run(zMin, zMax, getPositionsPerZ(), isParallel(), (zFrom, zTo) -> {
+            for (int z = zFrom; z <= zTo; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        visitor.visit(this.volume, x, y, z);
+                    }
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -133,15 +141,33 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
-        T reduction = identity;
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+        return SlabTasks.reduce(zMin, zMax, getPositionsPerZ(), isParallel(), (zFrom, zTo) -> {
+            T reduction = identity;
+            for (int z = zFrom; z <= zTo; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    }
                 }
             }
-        }
-        return reduction;
+            return reduction;
+        }, merge);
+    }
+
+    private int getPositionsPerZ() {
+        final Vector3i size = this.volume.getBlockSize();
+        return size.getX() * size.getY();
+    }
+
+    /**
+     * Gets whether the volume may be worked on from several threads, which
+     * requires it to be immutable or thread safe.
+     *
+     * @return Whether to work in parallel
+     */
+    private boolean isParallel() {
+        return (this.volume instanceof ImmutableBlockVolume || this.volume instanceof AtomicShortArrayMutableBlockBuffer)
+               && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelVolumeWorkers();
     }
 
     private Vector3i align(BlockVolume other) {
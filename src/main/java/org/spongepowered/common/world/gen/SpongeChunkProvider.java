@@ -44,10 +44,12 @@
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
+import net.minecraft.world.biome.WorldChunkManager;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderGenerate;
+import net.minecraft.world.gen.MapGenBase;
 import net.minecraft.world.gen.NoiseGeneratorPerlin;
 import net.minecraft.world.gen.structure.MapGenStronghold;
 import net.minecraft.world.gen.structure.MapGenStructure;
@@ -75,15 +77,27 @@
 import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
 import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+import org.spongepowered.common.world.gen.populators.MesaBiomeGenerationPopulator;
 import org.spongepowered.common.world.gen.populators.SnowPopulator;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * Similar class to {@link ChunkProviderGenerate}, but instead gets its blocks
  * from a custom chunk generator.
@@ -91,6 +105,9 @@
 public class SpongeChunkProvider implements WorldGenerator, IChunkProvider {
 
     private static final Vector2i CHUNK_AREA = new Vector2i(16, 16);
+    // The distance in chunks around a generated chunk that is prepared ahead of time
+    private static final int PREPARE_RADIUS = 2;
+    private static final int MAX_PREPARED_CHUNKS = 256;
 
     protected BiomeGenerator biomeGenerator;
     protected GenerationPopulator baseGenerator;
@@ -98,11 +115,25 @@ public class SpongeChunkProvider implements WorldGenerator, IChunkProvider {
     protected List<Populator> pop;
     protected Map<BiomeType, BiomeGenerationSettings> biomeSettings;
     protected final World world;
-    private final ByteArrayMutableBiomeBuffer cachedBiomes;
+    // Every thread generating terrain gets its own random, biome cache and noise buffer
+    private final ThreadLocal<GenerationContext> generationContexts = ThreadLocal.withInitial(GenerationContext::new);
+    // Terrain prepared by the worker threads, only accessed from the server thread
+    private final Map<Long, PreparedTerrain> preparedTerrain = new LinkedHashMap<Long, PreparedTerrain>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PreparedTerrain> eldest) {
+            if (size() > MAX_PREPARED_CHUNKS) {
+                eldest.getValue().claim();
+                return true;
+            }
+            return false;
+        }
+    };
 
     protected Random rand;
     private NoiseGeneratorPerlin noise4;
-    private double[] stoneNoise;
 
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
     protected Timing chunkGeneratorTiming;
@@ -112,16 +143,11 @@ public SpongeChunkProvider(World world, GenerationPopulator base, BiomeGenerator
         this.baseGenerator = checkNotNull(base, "baseGenerator");
         this.biomeGenerator = checkNotNull(biomegen, "biomeGenerator");
 
-        // Make initially empty biome cache
-        this.cachedBiomes = new ByteArrayMutableBiomeBuffer(Vector2i.ZERO, CHUNK_AREA);
-        this.cachedBiomes.detach();
-
         this.genpop = Lists.newArrayList();
         this.pop = Lists.newArrayList();
-        this.biomeSettings = Maps.newHashMap();
+        this.biomeSettings = new ConcurrentHashMap<>();
         this.rand = new Random(world.getSeed());
         this.noise4 = new NoiseGeneratorPerlin(this.rand, 4);
-        this.stoneNoise = new double[256];
 
         this.world.provider.worldChunkMgr = CustomWorldChunkManager.of(this.biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderGenerate) {
@@ -148,6 +174,7 @@ public GenerationPopulator getBaseGenerationPopulator() {
     @Override
     public void setBaseGenerationPopulator(GenerationPopulator baseGenerationPopulator) {
         this.baseGenerator = baseGenerationPopulator;
+        discardPreparedTerrain();
         if (this.baseGenerator instanceof IChunkProviderGenerate) {
             ((IChunkProviderGenerate) this.baseGenerator).setBiomeGenerator(this.biomeGenerator);
         }
@@ -160,6 +187,7 @@ public List<GenerationPopulator> getGenerationPopulators() {
 
     public void setGenerationPopulators(List<GenerationPopulator> generationPopulators) {
         this.genpop = Lists.newArrayList(generationPopulators);
+        discardPreparedTerrain();
     }
 
     @Override
@@ -176,7 +204,8 @@ public Map<BiomeType, BiomeGenerationSettings> getBiomeOverrides() {
     }
 
     public void setBiomeOverrides(Map<BiomeType, BiomeGenerationSettings> biomeOverrides) {
-        this.biomeSettings = Maps.newHashMap(biomeOverrides);
+        this.biomeSettings = new ConcurrentHashMap<>(biomeOverrides);
+        discardPreparedTerrain();
     }
 
     @Override
@@ -187,6 +216,7 @@ public BiomeGenerator getBiomeGenerator() {
     @Override
     public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
         this.biomeGenerator = biomeGenerator;
+        discardPreparedTerrain();
         this.world.provider.worldChunkMgr = CustomWorldChunkManager.of(biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderGenerate) {
             ((IChunkProviderGenerate) this.baseGenerator).setBiomeGenerator(biomeGenerator);
@@ -195,10 +225,7 @@ public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
 
     @Override
     public BiomeGenerationSettings getBiomeSettings(BiomeType type) {
-        if (!this.biomeSettings.containsKey(type)) {
-            this.biomeSettings.put(type, ((IBiomeGenBase) type).initPopulators(this.world));
-        }
-        return this.biomeSettings.get(type);
+        return this.biomeSettings.computeIfAbsent(type, biome -> ((IBiomeGenBase) biome).initPopulators(this.world));
     }
 
     @Override
@@ -213,20 +240,62 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
 
     @Override
     public Chunk provideChunk(int chunkX, int chunkZ) {
-        this.rand.setSeed((long) chunkX * 341873128712L + (long) chunkZ * 132897987541L);
-        this.cachedBiomes.reuse(new Vector2i(chunkX * 16, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
+        GeneratedTerrain terrain = null;
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelChunkGeneration() && canGenerateConcurrently()) {
+            terrain = takePreparedTerrain(chunkX, chunkZ);
+            prepareSurroundingTerrain(chunkX, chunkZ);
+        } else if (!this.preparedTerrain.isEmpty()) {
+            discardPreparedTerrain();
+        }
+        if (terrain == null) {
+            terrain = generateTerrain(chunkX, chunkZ, null);
+        } else if (!terrain.biomePopulatorsApplied) {
+            // The worker could not safely run some of the biome generator populators
+            MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(terrain.primer, chunkX, chunkZ);
+            applyBiomeGenerationPopulators(terrain.uniqueBiomes, blockBuffer, terrain.biomeBuffer, null);
+        }
+
+        // Assemble chunk
+        Chunk chunk = new Chunk(this.world, terrain.primer, chunkX, chunkZ);
+        byte[] biomeArray = chunk.getBiomeArray();
+        System.arraycopy(terrain.biomes, 0, biomeArray, 0, biomeArray.length);
+        chunk.generateSkylightMap();
+        return chunk;
+    }
+
+    /**
+     * Generates the terrain and biomes of a chunk without touching the world,
+     * so it may be called from any thread as long as the given generators are
+     * thread safe.
+     *
+     * <p>Worker threads generate with a snapshot of the generators. The biome
+     * generation populators are then only applied if all of them are known
+     * to be thread safe, otherwise that is left to
+     * {@link #provideChunk(int, int)}.</p>
+     *
+     * @param snapshot The generators to use, or null to use the current
+     *     generators on the server thread
+     */
+    private GeneratedTerrain generateTerrain(int chunkX, int chunkZ, @Nullable GeneratorSnapshot snapshot) {
+        final boolean serverThread = snapshot == null;
+        final BiomeGenerator biomeGenerator = serverThread ? this.biomeGenerator : snapshot.biomeGenerator;
+        final GenerationPopulator baseGenerator = serverThread ? this.baseGenerator : snapshot.baseGenerator;
+        final List<GenerationPopulator> generationPopulators = serverThread ? this.genpop : snapshot.generationPopulators;
+        final GenerationContext context = this.generationContexts.get();
+        context.random.setSeed((long) chunkX * 341873128712L + (long) chunkZ * 132897987541L);
+        context.biomes.reuse(new Vector2i(chunkX * 16, chunkZ * 16));
+        biomeGenerator.generateBiomes(context.biomes);
 
         // Generate base terrain
         ChunkPrimer chunkprimer = new ChunkPrimer();
         MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
-        ImmutableBiomeArea biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
-        this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        ImmutableBiomeArea biomeBuffer = context.biomes.getImmutableBiomeCopy();
+        baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
 
-        replaceBiomeBlocks(this.world, this.rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
+        replaceBiomeBlocks(this.world, context.random, chunkX, chunkZ, chunkprimer, biomeBuffer, snapshot);
 
         // Apply the generator populators to complete the blockBuffer
-        for (GenerationPopulator populator : this.genpop) {
+        for (GenerationPopulator populator : generationPopulators) {
             populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
         }
 
@@ -235,7 +304,7 @@ public Chunk provideChunk(int chunkX, int chunkZ) {
         BiomeType biome;
         for (int x = 0; x < 16; x++) {
             for (int z = 0; z < 16; z++) {
-                biome = this.cachedBiomes.getBiome(chunkX * 16 + x, chunkZ * 16 + z);
+                biome = context.biomes.getBiome(chunkX * 16 + x, chunkZ * 16 + z);
                 if (!uniqueBiomes.contains(biome)) {
                     uniqueBiomes.add(biome);
                 }
@@ -243,21 +312,90 @@ public Chunk provideChunk(int chunkX, int chunkZ) {
         }
 
         // run our generator populators
+        boolean applyBiomePopulators = serverThread || uniqueBiomes.stream()
+                .allMatch(type -> snapshot.getBiome(type).generationPopulators.stream().allMatch(SpongeChunkProvider::isThreadSafe));
+        if (applyBiomePopulators) {
+            applyBiomeGenerationPopulators(uniqueBiomes, blockBuffer, biomeBuffer, snapshot);
+        }
+
+        // The context is reused for the next chunk, so the biomes are copied
+        return new GeneratedTerrain(chunkprimer, context.biomes.detach().clone(), biomeBuffer, uniqueBiomes, applyBiomePopulators, snapshot);
+    }
+
+    private void applyBiomeGenerationPopulators(List<BiomeType> uniqueBiomes, MutableBlockVolume blockBuffer, ImmutableBiomeArea biomeBuffer,
+            @Nullable GeneratorSnapshot snapshot) {
         for (BiomeType type : uniqueBiomes) {
-            if (!this.biomeSettings.containsKey(type)) {
-                this.biomeSettings.put(type, ((IBiomeGenBase) type).initPopulators(this.world));
-            }
-            for (GenerationPopulator populator : this.biomeSettings.get(type).getGenerationPopulators()) {
+            List<GenerationPopulator> populators = snapshot == null ? getBiomeSettings(type).getGenerationPopulators()
+                    : snapshot.getBiome(type).generationPopulators;
+            for (GenerationPopulator populator : populators) {
                 populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
             }
         }
+    }
 
-        // Assemble chunk
-        Chunk chunk = new Chunk(this.world, chunkprimer, chunkX, chunkZ);
-        byte[] biomeArray = chunk.getBiomeArray();
-        System.arraycopy(this.cachedBiomes.detach(), 0, biomeArray, 0, biomeArray.length);
-        chunk.generateSkylightMap();
-        return chunk;
+    /**
+     * Gets whether the terrain of this world can be generated on the worker
+     * threads. The vanilla generators, the biome layers and the wrapped chunk
+     * providers keep state between chunks, so only worlds whose generators
+     * all come from plugins are generated concurrently.
+     */
+    private boolean canGenerateConcurrently() {
+        return !(this.biomeGenerator instanceof WorldChunkManager) && isThreadSafe(this.baseGenerator)
+               && this.genpop.stream().allMatch(SpongeChunkProvider::isThreadSafe);
+    }
+
+    private static boolean isThreadSafe(GenerationPopulator populator) {
+        return !(populator instanceof IChunkProvider || populator instanceof SpongeGenerationPopulator || populator instanceof MapGenBase
+                 || populator instanceof MesaBiomeGenerationPopulator);
+    }
+
+    @Nullable
+    private GeneratedTerrain takePreparedTerrain(int chunkX, int chunkZ) {
+        PreparedTerrain prepared = this.preparedTerrain.remove(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        // A task that has not started may be queued behind many others, so
+        // it is claimed and the chunk is generated here instead of waiting
+        if (prepared == null || prepared.claim()) {
+            return null;
+        }
+        try {
+            GeneratedTerrain terrain = prepared.result.get();
+            // Plugins may have changed the generators since the terrain was prepared
+            return terrain.snapshot.isCurrent(terrain.uniqueBiomes) ? terrain : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().warn("Failed to prepare the terrain of chunk ({}, {}) in world {}, generating it on the server thread instead.",
+                    chunkX, chunkZ, this.world.getWorldInfo().getWorldName(), e.getCause());
+            return null;
+        }
+    }
+
+    private void prepareSurroundingTerrain(int chunkX, int chunkZ) {
+        GeneratorSnapshot snapshot = null;
+        final IChunkProvider chunkProvider = this.world.getChunkProvider();
+        for (int x = chunkX - PREPARE_RADIUS; x <= chunkX + PREPARE_RADIUS; x++) {
+            for (int z = chunkZ - PREPARE_RADIUS; z <= chunkZ + PREPARE_RADIUS; z++) {
+                long key = ChunkCoordIntPair.chunkXZ2Int(x, z);
+                if ((x == chunkX && z == chunkZ) || this.preparedTerrain.containsKey(key) || chunkProvider.chunkExists(x, z)) {
+                    continue;
+                }
+                if (snapshot == null) {
+                    snapshot = new GeneratorSnapshot();
+                }
+                final GeneratorSnapshot preparedSnapshot = snapshot;
+                final int preparedX = x;
+                final int preparedZ = z;
+                PreparedTerrain prepared = new PreparedTerrain(() -> generateTerrain(preparedX, preparedZ, preparedSnapshot));
+                this.preparedTerrain.put(key, prepared);
+                GenerationWorkers.EXECUTOR.execute(prepared);
+            }
+        }
+    }
+
+    private void discardPreparedTerrain() {
+        this.preparedTerrain.values().forEach(PreparedTerrain::claim);
+        this.preparedTerrain.clear();
     }
 
     @Override
@@ -277,9 +415,7 @@ public void populate(IChunkProvider chunkProvider, int chunkX, int chunkZ) {
 
         org.spongepowered.api.world.Chunk chunk = (org.spongepowered.api.world.Chunk) this.world.getChunkFromChunkCoords(chunkX, chunkZ);
 
-        if (!this.biomeSettings.containsKey(biome)) {
-            this.biomeSettings.put(biome, ((IBiomeGenBase) biome).initPopulators(this.world));
-        }
+        BiomeGenerationSettings settings = getBiomeSettings(biome);
 
         List<Populator> populators = new ArrayList<>(this.pop);
 
@@ -294,7 +430,7 @@ public void populate(IChunkProvider chunkProvider, int chunkX, int chunkZ) {
             }
         }
 
-        populators.addAll(this.biomeSettings.get(biome).getPopulators());
+        populators.addAll(settings.getPopulators());
         if (snowPopulator != null) {
             populators.add(snowPopulator);
         }
@@ -442,14 +578,21 @@ public boolean chunkExists(int x, int z) {
     }
 
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeArea biomes) {
+        replaceBiomeBlocks(world, rand, x, z, chunk, biomes, null);
+    }
+
+    private void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeArea biomes,
+            @Nullable GeneratorSnapshot snapshot) {
+        final GenerationContext context = this.generationContexts.get();
         double d0 = 0.03125D;
-        this.stoneNoise = this.noise4.func_151599_a(this.stoneNoise, (double) (x * 16), (double) (z * 16), 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        context.stoneNoise = this.noise4.func_151599_a(context.stoneNoise, (double) (x * 16), (double) (z * 16), 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        final double[] stoneNoise = context.stoneNoise;
         Vector2i min = biomes.getBiomeMin();
         for (int k = 0; k < 16; ++k) {
             for (int l = 0; l < 16; ++l) {
                 BiomeType biomegenbase = biomes.getBiome(min.getX() + l, min.getY() + k);
-                generateBiomeTerrain(world, rand, chunk, x * 16 + k, z * 16 + l, this.stoneNoise[l + k * 16],
-                        getBiomeSettings(biomegenbase).getGroundCoverLayers());
+                generateBiomeTerrain(world, rand, chunk, x * 16 + k, z * 16 + l, stoneNoise[l + k * 16],
+                        snapshot == null ? getBiomeSettings(biomegenbase).getGroundCoverLayers() : snapshot.getBiome(biomegenbase).groundCoverLayers);
             }
         }
     }
@@ -520,4 +663,146 @@ public void generateBiomeTerrain(World worldIn, Random rand, ChunkPrimer chunk,
         }
     }
 
+    private static final class GenerationContext {
+
+        final Random random = new Random();
+        final ByteArrayMutableBiomeBuffer biomes = new ByteArrayMutableBiomeBuffer(Vector2i.ZERO, CHUNK_AREA);
+        double[] stoneNoise = new double[256];
+
+        GenerationContext() {
+            // Make initially empty biome cache
+            this.biomes.detach();
+        }
+
+    }
+
+    private static final class GeneratedTerrain {
+
+        final ChunkPrimer primer;
+        final byte[] biomes;
+        final ImmutableBiomeArea biomeBuffer;
+        final List<BiomeType> uniqueBiomes;
+        final boolean biomePopulatorsApplied;
+        @Nullable final GeneratorSnapshot snapshot;
+
+        GeneratedTerrain(ChunkPrimer primer, byte[] biomes, ImmutableBiomeArea biomeBuffer, List<BiomeType> uniqueBiomes,
+                boolean biomePopulatorsApplied, @Nullable GeneratorSnapshot snapshot) {
+            this.primer = primer;
+            this.biomes = biomes;
+            this.biomeBuffer = biomeBuffer;
+            this.uniqueBiomes = uniqueBiomes;
+            this.biomePopulatorsApplied = biomePopulatorsApplied;
+            this.snapshot = snapshot;
+        }
+
+    }
+
+    /**
+     * Terrain queued for a worker thread. Claiming it before a worker has
+     * started on it stops the worker from generating it at all.
+     */
+    private static final class PreparedTerrain implements Runnable {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        final CompletableFuture<GeneratedTerrain> result = new CompletableFuture<>();
+        private final Supplier<GeneratedTerrain> generator;
+
+        PreparedTerrain(Supplier<GeneratedTerrain> generator) {
+            this.generator = generator;
+        }
+
+        boolean claim() {
+            return this.claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (!claim()) {
+                return;
+            }
+            try {
+                this.result.complete(this.generator.get());
+            } catch (Throwable t) {
+                this.result.completeExceptionally(t);
+            }
+        }
+
+    }
+
+    /**
+     * The generators used by the worker threads. Plugins may change the live
+     * populator lists at any time, so the workers use copies of them and the
+     * prepared terrain is only used while the copies are still current.
+     */
+    private final class GeneratorSnapshot {
+
+        final BiomeGenerator biomeGenerator;
+        final GenerationPopulator baseGenerator;
+        final List<GenerationPopulator> generationPopulators;
+        private final Map<BiomeType, BiomeSnapshot> biomes = new ConcurrentHashMap<>();
+
+        GeneratorSnapshot() {
+            this.biomeGenerator = SpongeChunkProvider.this.biomeGenerator;
+            this.baseGenerator = SpongeChunkProvider.this.baseGenerator;
+            this.generationPopulators = ImmutableList.copyOf(SpongeChunkProvider.this.genpop);
+            SpongeChunkProvider.this.biomeSettings.forEach((type, settings) -> this.biomes.put(type, new BiomeSnapshot(settings)));
+        }
+
+        BiomeSnapshot getBiome(BiomeType type) {
+            // Settings of biomes that were not initialized yet are created by the workers
+            return this.biomes.computeIfAbsent(type, biome -> new BiomeSnapshot(getBiomeSettings(biome)));
+        }
+
+        boolean isCurrent(List<BiomeType> uniqueBiomes) {
+            if (this.biomeGenerator != SpongeChunkProvider.this.biomeGenerator || this.baseGenerator != SpongeChunkProvider.this.baseGenerator
+                || !this.generationPopulators.equals(SpongeChunkProvider.this.genpop)) {
+                return false;
+            }
+            for (BiomeType type : uniqueBiomes) {
+                if (!getBiome(type).matches(getBiomeSettings(type))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private static final class BiomeSnapshot {
+
+        final List<GenerationPopulator> generationPopulators;
+        final List<GroundCoverLayer> groundCoverLayers;
+
+        BiomeSnapshot(BiomeGenerationSettings settings) {
+            this.generationPopulators = ImmutableList.copyOf(settings.getGenerationPopulators());
+            this.groundCoverLayers = ImmutableList.copyOf(settings.getGroundCoverLayers());
+        }
+
+        boolean matches(BiomeGenerationSettings settings) {
+            return this.generationPopulators.equals(settings.getGenerationPopulators())
+                   && this.groundCoverLayers.equals(settings.getGroundCoverLayers());
+        }
+
+    }
+
+    private static final class GenerationWorkers {
+
+        static final ExecutorService EXECUTOR;
+
+        static {
+            int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkGenerationThreads();
+            if (threads <= 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            }
+            final AtomicInteger threadCount = new AtomicInteger();
+            EXECUTOR = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("Sponge Chunk Generator #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+    }
+
 }
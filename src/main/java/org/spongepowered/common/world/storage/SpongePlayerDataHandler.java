@@ -37,36 +37,65 @@
 import org.spongepowered.common.world.DimensionManager;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
 public final class SpongePlayerDataHandler {
 
     private static final String SPONGE_DATA = "sponge";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
     private boolean hasInitialized = false;
     private Path playerDir;
 
     private Map<UUID, SpongePlayerData> playerDataMap;
 
+    // Write-behind mode, see OptimizationCategory#useAsyncPlayerData
+    private boolean async;
+    @Nullable private ExecutorService ioExecutor;
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> missingPlayers = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Void>> pendingLoads = new ConcurrentHashMap<>();
+    private final SaveMetrics metrics = new SaveMetrics();
+
     public static void init() {
         SpongePlayerDataHandler handlerInstance = Holder.INSTANCE;
+        if (handlerInstance.hasInitialized && handlerInstance.ioExecutor != null) {
+            // Write the players changed since the last save before their data is dropped
+            saveFiles();
+        }
+        handlerInstance.shutdownExecutor();
         handlerInstance.playerDataMap = new ConcurrentHashMap<>();
+        handlerInstance.dirtyPlayers.clear();
+        handlerInstance.missingPlayers.clear();
+        handlerInstance.pendingLoads.clear();
+        handlerInstance.async = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncPlayerData();
 
         @Nullable File root = DimensionManager.getCurrentSaveRootDirectory();
         if (root == null) {
@@ -78,26 +107,33 @@ public static void init() {
             try {
                 handlerInstance.playerDir = Paths.get(filePath);
                 Path file = Files.createDirectories(handlerInstance.playerDir);
-                List<Path> playerFiles = new ArrayList<>();
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(file, "*.{dat}")) {
-                    for (Path entry : stream) {
-                        playerFiles.add(entry);
+                if (handlerInstance.async) {
+                    // Player data is loaded the first time it is requested
+                    handlerInstance.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                        Thread thread = new Thread(runnable);
+                        thread.setName("Sponge Player Data Thread");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                } else {
+                    List<Path> playerFiles = new ArrayList<>();
+                    try (DirectoryStream<Path> stream = Files.newDirectoryStream(file, "*.{dat}")) {
+                        for (Path entry : stream) {
+                            playerFiles.add(entry);
+                        }
+                    } catch (DirectoryIteratorException e) {
+                        SpongeImpl.getLogger().log(Level.ERROR, "Something happened when trying to gather all player files", e);
                     }
-                } catch (DirectoryIteratorException e) {
-                    SpongeImpl.getLogger().log(Level.ERROR, "Something happened when trying to gather all player files", e);
-                }
-                for (Path playerFile : playerFiles) {
-                    File actualFile = playerFile.toFile();
-                    if (actualFile.exists() && actualFile.isFile()) {
-                        FileInputStream stream = new FileInputStream(actualFile);
-                        NBTTagCompound compound = CompressedStreamTools.readCompressed(stream);
-                        stream.close();
-                        DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
-                        SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
-                        handlerInstance.playerDataMap.put(data.uuid, data);
+                    for (Path playerFile : playerFiles) {
+                        if (Files.isRegularFile(playerFile)) {
+                            @Nullable SpongePlayerData data = readFile(playerFile);
+                            if (data != null) {
+                                handlerInstance.playerDataMap.put(data.uuid, data);
+                            }
+                        }
                     }
+                    playerFiles.clear();
                 }
-                playerFiles.clear();
 
             } catch (FileAlreadyExistsException e) {
                 SpongeImpl.getLogger().printf(Level.ERROR, "Someone went and created a file for the desired path: {}", filePath);
@@ -109,12 +145,123 @@ public static void init() {
         handlerInstance.hasInitialized = true;
     }
 
+    /**
+     * Writes the player data that is still pending and stops the player data
+     * thread, if player data is saved asynchronously.
+     */
+    public static void shutdown() {
+        SpongePlayerDataHandler instance = Holder.INSTANCE;
+        if (!instance.hasInitialized || instance.ioExecutor == null) {
+            return;
+        }
+        saveFiles();
+        instance.shutdownExecutor();
+    }
+
+    private void shutdownExecutor() {
+        @Nullable ExecutorService executor = this.ioExecutor;
+        if (executor == null) {
+            return;
+        }
+        this.ioExecutor = null;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                SpongeImpl.getLogger().error("Timed out waiting for {} player data files to be saved", this.pendingSaves.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nullable
+    private static SpongePlayerData readFile(Path playerFile) throws IOException {
+        final NBTTagCompound compound;
+        try (InputStream stream = Files.newInputStream(playerFile)) {
+            compound = CompressedStreamTools.readCompressed(stream);
+        }
+        DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+        return container.getSerializable(DataQuery.of(), SpongePlayerData.class).orElse(null);
+    }
+
+    /**
+     * Starts loading the data of a player on the player data thread, so it
+     * is available without reading its file once the player joins. Does
+     * nothing unless player data is handled asynchronously.
+     *
+     * @param id The unique id of the player
+     */
+    public static void preload(UUID id) {
+        SpongePlayerDataHandler instance = Holder.INSTANCE;
+        @Nullable final ExecutorService executor = instance.ioExecutor;
+        if (!instance.hasInitialized || executor == null || instance.playerDataMap.containsKey(id) || instance.missingPlayers.contains(id)) {
+            return;
+        }
+        final CompletableFuture<Void> load = new CompletableFuture<>();
+        if (instance.pendingLoads.putIfAbsent(id, load) != null) {
+            return;
+        }
+        final Runnable task = () -> {
+            try {
+                instance.load(id);
+            } finally {
+                instance.pendingLoads.remove(id, load);
+                load.complete(null);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // The executor is shutting down, the data is read when requested
+            instance.pendingLoads.remove(id, load);
+            load.complete(null);
+        }
+    }
+
+    @Nullable
+    private SpongePlayerData getData(UUID id) {
+        @Nullable final SpongePlayerData data = this.playerDataMap.get(id);
+        if (data != null || !this.async) {
+            return data;
+        }
+        @Nullable final CompletableFuture<Void> load = this.pendingLoads.get(id);
+        if (load != null) {
+            // Wait for the player data thread instead of reading the file twice
+            load.join();
+            return this.playerDataMap.get(id);
+        }
+        if (this.missingPlayers.contains(id)) {
+            return null;
+        }
+        return load(id);
+    }
+
+    @Nullable
+    private SpongePlayerData load(UUID id) {
+        @Nullable SpongePlayerData data = null;
+        final Path playerFile = this.playerDir.resolve(id.toString() + ".dat");
+        try {
+            if (Files.isRegularFile(playerFile)) {
+                data = readFile(playerFile);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to load player data: " + id, e);
+        }
+        if (data == null) {
+            this.missingPlayers.add(id);
+            return null;
+        }
+        @Nullable final SpongePlayerData previous = this.playerDataMap.putIfAbsent(id, data);
+        return previous == null ? data : previous;
+    }
+
     public static void savePlayer(UUID id) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
-        @Nullable SpongePlayerData data = instance.playerDataMap.get(checkNotNull(id, "Player id cannot be null!"));
+        @Nullable SpongePlayerData data = instance.getData(checkNotNull(id, "Player id cannot be null!"));
         if (data != null) {
-            saveFile(id.toString(), createCompoundFor(data));
+            instance.dirtyPlayers.remove(id);
+            instance.save(id, createCompoundFor(data));
         } else {
             SpongeImpl.getLogger().error("Couldn't find a player data for the uuid: " + id.toString());
         }
@@ -123,6 +270,17 @@ public static void savePlayer(UUID id) {
     public static void saveFiles() {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
+        if (instance.ioExecutor != null) {
+            // Only players changed since their last save are written
+            for (UUID id : instance.dirtyPlayers) {
+                instance.dirtyPlayers.remove(id);
+                @Nullable SpongePlayerData data = instance.playerDataMap.get(id);
+                if (data != null) {
+                    instance.save(id, createCompoundFor(data));
+                }
+            }
+            return;
+        }
         Map<String, NBTTagCompound> compoundMap = new HashMap<>();
         for (Map.Entry<UUID, SpongePlayerData> entry : instance.playerDataMap.entrySet()) {
             SpongePlayerData data = entry.getValue();
@@ -138,28 +296,37 @@ private static NBTTagCompound createCompoundFor(SpongePlayerData data) {
         return NbtTranslator.getInstance().translateData(data.toContainer());
     }
 
+    private void save(UUID id, NBTTagCompound compound) {
+        @Nullable final ExecutorService executor = this.ioExecutor;
+        if (executor == null) {
+            saveFile(id.toString(), compound);
+            return;
+        }
+        // A save that is still queued for the player is replaced, so only the latest data is written
+        if (this.pendingSaves.put(id, new PendingSave(compound, System.nanoTime())) == null) {
+            executor.execute(() -> {
+                @Nullable final PendingSave save = this.pendingSaves.remove(id);
+                if (save != null) {
+                    saveFile(id.toString(), save.compound);
+                    this.metrics.record(System.nanoTime() - save.queuedAt);
+                }
+            });
+        }
+    }
+
     private static void saveFile(String id, NBTTagCompound compound) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
         try {
-            final String pathString = instance.playerDir.toString() + File.separator + id;
-            File newFile = new File(pathString + "dat.tmp");
-            File finalFile = new File(pathString + ".dat");
-            try (FileOutputStream stream = new FileOutputStream(newFile)) {
+            final Path newFile = instance.playerDir.resolve(id + ".dat.tmp");
+            final Path finalFile = instance.playerDir.resolve(id + ".dat");
+            try (OutputStream stream = Files.newOutputStream(newFile)) {
                 CompressedStreamTools.writeCompressed(compound, stream);
-                if (finalFile.exists()) {
-                    if (!finalFile.delete()) {
-                        SpongeImpl.getLogger().log(Level.WARN, "There was an issue deleting the previous file: " + finalFile.getAbsolutePath());
-                    }
-                }
-                if (!newFile.renameTo(finalFile)) {
-                    SpongeImpl.getLogger().error("Could not rename file: {} to {} !", newFile.getAbsolutePath(), finalFile.getAbsolutePath());
-                }
-                if (newFile.exists()) {
-                    if (!newFile.delete()) {
-                        SpongeImpl.getLogger().error("Could not delete file: {}", newFile.getAbsolutePath());
-                    }
-                }
+            }
+            try {
+                Files.move(newFile, finalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(newFile, finalFile, StandardCopyOption.REPLACE_EXISTING);
             }
         } catch (Exception e) {
             SpongeImpl.getLogger().error("Failed to save player data: " + id);
@@ -173,7 +340,7 @@ public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
         checkNotNull(last, "Last joined date cannot be null!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
 
-        SpongePlayerData data = instance.playerDataMap.get(checkNotNull(playerId, "Player UUID cannot be null!"));
+        SpongePlayerData data = instance.getData(checkNotNull(playerId, "Player UUID cannot be null!"));
         if (data == null) {
             data = new SpongePlayerData();
             data.uuid = playerId;
@@ -181,23 +348,83 @@ public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
         data.firstJoined = join.toEpochMilli();
         data.lastJoined = last.toEpochMilli();
         instance.playerDataMap.put(playerId, data);
+        instance.missingPlayers.remove(playerId);
+        instance.dirtyPlayers.add(playerId);
     }
 
     public static Optional<Instant> getFirstJoined(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
+        final SpongePlayerData data = Holder.INSTANCE.getData(player);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.firstJoined));
     }
 
     public static Optional<Instant> getLastPlayed(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
+        final SpongePlayerData data = Holder.INSTANCE.getData(player);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.lastJoined));
     }
 
+    /**
+     * Gets the statistics of the asynchronous player data saves.
+     *
+     * @return The save metrics
+     */
+    public static SaveMetrics getSaveMetrics() {
+        return Holder.INSTANCE.metrics;
+    }
+
     SpongePlayerDataHandler() { }
 
     private static final class Holder {
         static final SpongePlayerDataHandler INSTANCE = new SpongePlayerDataHandler();
     }
+
+    private static final class PendingSave {
+
+        final NBTTagCompound compound;
+        final long queuedAt;
+
+        PendingSave(NBTTagCompound compound, long queuedAt) {
+            this.compound = compound;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    /**
+     * Statistics about the player data files written by the player data
+     * thread, the latency is measured from the moment a save is queued until
+     * its file is written.
+     */
+    public static final class SaveMetrics {
+
+        private final AtomicLong saved = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        SaveMetrics() {
+        }
+
+        void record(long latency) {
+            this.saved.incrementAndGet();
+            this.totalLatency.addAndGet(latency);
+            this.maxLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        public long getSavedFiles() {
+            return this.saved.get();
+        }
+
+        public int getPendingSaves() {
+            return Holder.INSTANCE.pendingSaves.size();
+        }
+
+        public long getAverageSaveLatency(TimeUnit unit) {
+            final long saved = this.saved.get();
+            return saved == 0 ? 0 : unit.convert(this.totalLatency.get() / saved, TimeUnit.NANOSECONDS);
+        }
+
+        public long getMaxSaveLatency(TimeUnit unit) {
+            return unit.convert(this.maxLatency.get(), TimeUnit.NANOSECONDS);
+        }
+    }
 }
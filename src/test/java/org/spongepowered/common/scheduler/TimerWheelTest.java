@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimerWheelTest {
+
+    private long now;
+
+    private TimerWheel createWheel() {
+        return new TimerWheel(() -> this.now, 10L, 8);
+    }
+
+    private ScheduledTask createTask(long delay) {
+        ScheduledTask task = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, t -> {}, "test", delay, true, 0L, true, null);
+        task.setTimestamp(this.now);
+        return task;
+    }
+
+    @Test
+    public void testTaskExpiresAtDeadline() {
+        TimerWheel wheel = createWheel();
+        ScheduledTask task = createTask(25L);
+        wheel.add(task);
+        List<ScheduledTask> expired = new ArrayList<>();
+
+        this.now = 24L;
+        wheel.advance(expired);
+        assertTrue(expired.isEmpty());
+
+        this.now = 25L;
+        wheel.advance(expired);
+        assertEquals(1, expired.size());
+        assertEquals(task, expired.get(0));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testTaskInLaterRevolution() {
+        TimerWheel wheel = createWheel();
+        // The wheel covers 80 units per revolution
+        ScheduledTask task = createTask(165L);
+        wheel.add(task);
+        List<ScheduledTask> expired = new ArrayList<>();
+
+        for (this.now = 0L; this.now < 165L; this.now += 5L) {
+            wheel.advance(expired);
+            assertTrue(expired.isEmpty());
+        }
+        wheel.advance(expired);
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void testSkippingSlots() {
+        TimerWheel wheel = createWheel();
+        wheel.add(createTask(15L));
+        wheel.add(createTask(42L));
+        wheel.add(createTask(500L));
+        List<ScheduledTask> expired = new ArrayList<>();
+
+        this.now = 300L;
+        wheel.advance(expired);
+        assertEquals(2, expired.size());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testCancelledTaskIsDropped() {
+        TimerWheel wheel = createWheel();
+        ScheduledTask task = createTask(1000L);
+        wheel.add(task);
+        task.cancel();
+        List<ScheduledTask> expired = new ArrayList<>();
+
+        this.now = 80L;
+        wheel.advance(expired);
+        assertEquals(1, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testNextDeadline() {
+        TimerWheel wheel = createWheel();
+        assertEquals(Long.MAX_VALUE, wheel.nextDeadline());
+        wheel.add(createTask(37L));
+        wheel.add(createTask(52L));
+        assertEquals(37L, wheel.nextDeadline());
+    }
+
+    @Test
+    public void testNextDeadlineWrapsAround() {
+        TimerWheel wheel = createWheel();
+        this.now = 60L;
+        wheel.advance(new ArrayList<>());
+        // A task of a later revolution and one in a slot before the current one
+        wheel.add(createTask(250L));
+        wheel.add(createTask(35L));
+        assertEquals(95L, wheel.nextDeadline());
+        wheel.add(createTask(5L));
+        assertEquals(65L, wheel.nextDeadline());
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResolvedPermissionCacheTest {
+
+    @Test
+    public void testResolvesOnce() {
+        ResolvedPermissionCache cache = new ResolvedPermissionCache();
+        AtomicInteger resolved = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Tristate.TRUE, cache.get("sponge.test", permission -> {
+                resolved.incrementAndGet();
+                return Tristate.TRUE;
+            }));
+        }
+        assertEquals(1, resolved.get());
+    }
+
+    @Test
+    public void testInvalidateAllResolvesAgain() {
+        ResolvedPermissionCache cache = new ResolvedPermissionCache();
+        assertEquals(Tristate.TRUE, cache.get("sponge.test", permission -> Tristate.TRUE));
+        ResolvedPermissionCache.invalidateAll();
+        assertEquals(Tristate.FALSE, cache.get("sponge.test", permission -> Tristate.FALSE));
+        assertEquals(Tristate.FALSE, cache.get("sponge.test", permission -> Tristate.TRUE));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.spongepowered.common.interfaces.IMixinCachable;
+
+public class LongCachedHashMapTest {
+
+    private static long key(int x, int z) {
+        return x & 0xFFFFFFFFL | (z & 0xFFFFFFFFL) << 32;
+    }
+
+    @Test
+    public void testNeighboursStayCached() {
+        LongCachedHashMap<Value> map = new LongCachedHashMap<>(16);
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                map.add(key(x, z), new Value());
+            }
+        }
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                map.getValueByKey(key(x, z));
+            }
+        }
+        assertEquals(16, map.getMisses());
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                map.getValueByKey(key(x, z));
+            }
+        }
+        assertEquals(16, map.getHits());
+    }
+
+    @Test
+    public void testRemoveInvalidatesCache() {
+        LongCachedHashMap<Value> map = new LongCachedHashMap<>(4);
+        map.add(key(1, 1), new Value());
+        map.getValueByKey(key(1, 1));
+        map.remove(key(1, 1));
+        assertNull(map.getValueByKey(key(1, 1)));
+        assertFalse(map.containsItem(key(1, 1)));
+    }
+
+    @Test
+    public void testReplaceUpdatesCache() {
+        LongCachedHashMap<Value> map = new LongCachedHashMap<>(4);
+        map.add(key(3, -7), new Value());
+        map.getValueByKey(key(3, -7));
+        Value replacement = new Value();
+        map.add(key(3, -7), replacement);
+        assertSame(replacement, map.getValueByKey(key(3, -7)));
+    }
+
+    private static final class Value implements IMixinCachable {
+
+        private long cacheKey;
+
+        @Override
+        public long getCacheKey() {
+            return this.cacheKey;
+        }
+
+        @Override
+        public void setCacheKey(long key) {
+            this.cacheKey = key;
+        }
+    }
+
+}
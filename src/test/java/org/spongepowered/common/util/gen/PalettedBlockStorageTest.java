@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class PalettedBlockStorageTest {
+
+    private static final int SIZE_X = 37;
+    private static final int SIZE_Y = 50;
+    private static final int SIZE_Z = 21;
+
+    private static int index(int x, int y, int z) {
+        return (x * SIZE_Z + z) * SIZE_Y + y;
+    }
+
+    @Test
+    public void testMatchesArray() {
+        final PalettedBlockStorage storage = new PalettedBlockStorage(new Vector3i(SIZE_X, SIZE_Y, SIZE_Z));
+        final int[] expected = new int[SIZE_X * SIZE_Y * SIZE_Z];
+        final Random random = new Random(0);
+        for (int i = 0; i < 200000; i++) {
+            final int x = random.nextInt(SIZE_X);
+            final int y = random.nextInt(SIZE_Y);
+            final int z = random.nextInt(SIZE_Z);
+            // Start with a few ids, then grow the palettes up to full width
+            final int id = i < 50000 ? random.nextInt(3) << 4 : random.nextInt(1 << 16);
+            storage.set(x, y, z, id);
+            expected[index(x, y, z)] = id;
+        }
+        for (int x = 0; x < SIZE_X; x++) {
+            for (int y = 0; y < SIZE_Y; y++) {
+                for (int z = 0; z < SIZE_Z; z++) {
+                    assertEquals(expected[index(x, y, z)], storage.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final PalettedBlockStorage storage = new PalettedBlockStorage(new Vector3i(SIZE_X, SIZE_Y, SIZE_Z));
+        storage.set(1, 2, 3, 16);
+        final PalettedBlockStorage copy = storage.copy();
+        copy.set(1, 2, 3, 32);
+        assertEquals(16, storage.get(1, 2, 3));
+        assertEquals(32, copy.get(1, 2, 3));
+    }
+
+    @Test
+    public void testFewIdsUseFewBits() {
+        final PalettedBlockStorage storage = new PalettedBlockStorage(new Vector3i(64, 64, 64));
+        final long empty = storage.getMemoryUsage();
+        for (int x = 0; x < 64; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 64; z++) {
+                    storage.set(x, y, z, 16);
+                }
+            }
+        }
+        // Two ids per section only need one bit per block, instead of a short
+        assertTrue(storage.getMemoryUsage() - empty < 64 * 16 * 64 * 2 / 8);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class SlabTasksTest {
+
+    @Test
+    public void testRunCoversEachSliceOnce() {
+        final int zMin = -37;
+        final int zMax = 90;
+        final AtomicIntegerArray visits = new AtomicIntegerArray(zMax - zMin + 1);
+        SlabTasks.run(zMin, zMax, SlabTasks.MIN_SLAB_POSITIONS / 4, true, (zFrom, zTo) -> {
+            for (int z = zFrom; z <= zTo; z++) {
+                visits.incrementAndGet(z - zMin);
+            }
+        });
+        for (int i = 0; i < visits.length(); i++) {
+            assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    public void testReduceKeepsOrder() {
+        final int zMin = -20;
+        final int zMax = 100;
+        final StringBuilder expected = new StringBuilder();
+        for (int z = zMin; z <= zMax; z++) {
+            expected.append(z).append(',');
+        }
+        final String reduction = SlabTasks.reduce(zMin, zMax, SlabTasks.MIN_SLAB_POSITIONS / 2, true, (zFrom, zTo) -> {
+            final StringBuilder builder = new StringBuilder();
+            for (int z = zFrom; z <= zTo; z++) {
+                builder.append(z).append(',');
+            }
+            return builder.toString();
+        }, String::concat);
+        assertEquals(expected.toString(), reduction);
+    }
+
+}